@@ -9,7 +9,11 @@
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -57,6 +61,39 @@ public ReservationResponseDto createExternalReservation(@Valid ReservationReques
         return new ReservationResponseDto(requestDto.ticketId());
     }
 
+    public List<ReservationResponseDto> createExternalReservations(@Valid List<ReservationRequestDto> requests) {
+        Map<UUID, String> externalEventIds = ticketRepository.findAllById(
+                        requests.stream().map(ReservationRequestDto::ticketId).toList())
+                .stream()
+                .collect(Collectors.toMap(ticket -> ticket.getId(), ticket -> ticket.getEvent().getExternalId()));
+
+        Map<String, List<ReservationRequestDto>> byEvent = requests.stream()
+                .collect(Collectors.groupingBy(
+                        request -> externalEventIds.getOrDefault(request.ticketId(), "EXTERNAL_EVENT_UNKNOWN"),
+                        LinkedHashMap::new,
+                        Collectors.toList()));
+
+        // Симуляция: один запрос на событие вместо одного на билет
+        byEvent.forEach((externalEventID, eventRequests) -> {
+            try {
+                webClient.post()
+                        .uri(uriBuilder -> uriBuilder.path("/createReservations")
+                                .queryParam("externalEventID", externalEventID)
+                                .build())
+                        .bodyValue(eventRequests)
+                        .retrieve()
+                        .toBodilessEntity()
+                        .block();
+            } catch (Exception e) {
+                log.warn("External batch reservation call failed (expected for simulation): {}", e.getMessage());
+            }
+        });
+
+        return requests.stream()
+                .map(request -> new ReservationResponseDto(request.ticketId()))
+                .toList();
+    }
+
     public ReservationResponseDto cancelExternalReservation(@Valid ReservationRequestDto requestDto) {
         String externalEventID = this.extractEventId(requestDto.ticketId());
 
@@ -1,5 +1,6 @@
 package com.oleksandr.eventprovider.event.input.controller;
 
+import com.oleksandr.common.dto.CursorPage;
 import com.oleksandr.common.dto.EventDTO;
 import com.oleksandr.common.dto.TicketDTO;
 import com.oleksandr.eventprovider.event.service.api.EventService;
@@ -42,12 +43,27 @@ public Page<EventDTO> getAllEvents(
             @Max(value = 100, message = "Page size cannot exceed 100")
             int size
     ) {
-        Sort sort = Sort.by(Sort.Direction.ASC, "eventDate");
+        // id breaks ties so events sharing a date keep their page across requests
+        Sort sort = Sort.by(Sort.Direction.ASC, "eventDate", "id");
         Pageable pageable = PageRequest.of(page, size, sort);
 
         return eventService.getAllEventsPaginated(includeTickets, pageable);
     }
 
+    @GetMapping(value = "/events", params = "cursor")
+    public CursorPage<EventDTO> getEventsByCursor(
+            @RequestParam(value = "includeTickets", defaultValue = "false") boolean includeTickets,
+
+            @RequestParam("cursor") String cursor,
+
+            @RequestParam(value = "size", defaultValue = "10")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 100, message = "Page size cannot exceed 100")
+            int size
+    ) {
+        return eventService.getEventsAfter(includeTickets, cursor, size);
+    }
+
     @PostMapping("/events/refresh")
     public ResponseEntity<Map<String, String>> refreshEventsFromApi() {
         eventService.refreshEventsFromApi();
@@ -13,6 +13,8 @@
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Slf4j
 @RequiredArgsConstructor
 @RestController
@@ -31,6 +33,14 @@ public ResponseEntity<ReservationResponseDto> reserveTicket(@Valid @RequestBody
     }
 
 
+    @PostMapping("/reserveTickets")
+    public ResponseEntity<List<ReservationResponseDto>> reserveTickets(@Valid @RequestBody List<ReservationRequestDto> requests) {
+        log.info("Received request to reserve {} tickets", requests.size());
+        List<ReservationResponseDto> response = eventReservationExternalService.createExternalReservations(requests);
+        return ResponseEntity.ok(response);
+    }
+
+
     @PostMapping("/cancelTicket")
     public ResponseEntity<ReservationResponseDto> cancelTicket(@Valid @RequestBody ReservationRequestDto requestDto) {
         log.info("Received request to cancel reservation: {}", requestDto);
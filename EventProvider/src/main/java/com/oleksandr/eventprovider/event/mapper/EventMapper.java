@@ -1,6 +1,7 @@
 package com.oleksandr.eventprovider.event.mapper;
 
 import com.oleksandr.common.dto.EventDTO;
+import com.oleksandr.common.sync.EventContentHash;
 import com.oleksandr.eventprovider.Ticket.mapper.TicketMapper;
 import com.oleksandr.eventprovider.Ticket.model.Ticket;
 import com.oleksandr.eventprovider.TicketMaster.dto.EventMasterDto;
@@ -84,7 +85,7 @@ public Event updateEventInformation(Event eventToChange, EventDTO dto) {
     public EventDTO mapToDto(Event event) {
         if (event == null) throw new IllegalArgumentException("Event entity cannot be null");
 
-        return EventDTO.builder()
+        EventDTO dto = EventDTO.builder()
                 .id(event.getId())
                 .name(event.getName())
                 .description(event.getDescription())
@@ -95,6 +96,7 @@ public EventDTO mapToDto(Event event) {
                         ? ticketMapper.mapEntityListToDtoList(event.getTickets())
                         : List.of())
                 .build();
+        return dto.toBuilder().contentHash(EventContentHash.of(dto)).build();
     }
 
     public List<EventDTO> mapListToDtoList(List<Event> events) {
@@ -10,7 +10,8 @@
 import java.util.UUID;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events",
+       indexes = @Index(name = "idx_events_event_date_id", columnList = "event_date, id"))
 @Getter
 @Setter
 @NoArgsConstructor
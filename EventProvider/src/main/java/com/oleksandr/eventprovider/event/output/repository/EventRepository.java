@@ -1,12 +1,31 @@
 package com.oleksandr.eventprovider.event.output.repository;
 
 import com.oleksandr.eventprovider.event.model.Event;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 public interface EventRepository extends JpaRepository<Event, UUID> {
     
     List<Event> findByExternalIdIn(List<String> externalIds);
+
+    // Seek mode of /external/events, same order as the Monolith catalog
+    @Query("SELECT e FROM Event e WHERE e.eventDate IS NOT NULL ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findDatedFirst(Limit limit);
+
+    // the leading >= keeps the predicate a range seek on the index
+    @Query("SELECT e FROM Event e WHERE e.eventDate >= :eventDate " +
+           "AND (e.eventDate > :eventDate OR e.id > :id) ORDER BY e.eventDate ASC, e.id ASC")
+    List<Event> findDatedAfter(@Param("eventDate") LocalDateTime eventDate, @Param("id") UUID id, Limit limit);
+
+    @Query("SELECT e FROM Event e WHERE e.eventDate IS NULL ORDER BY e.id ASC")
+    List<Event> findUndatedFirst(Limit limit);
+
+    @Query("SELECT e FROM Event e WHERE e.eventDate IS NULL AND e.id > :id ORDER BY e.id ASC")
+    List<Event> findUndatedAfter(@Param("id") UUID id, Limit limit);
 }
@@ -1,6 +1,7 @@
 package com.oleksandr.eventprovider.event.service.api;
 
 
+import com.oleksandr.common.dto.CursorPage;
 import com.oleksandr.common.dto.EventDTO;
 import com.oleksandr.common.dto.TicketDTO;
 import org.springframework.data.domain.Page;
@@ -19,6 +20,8 @@ public interface EventService {
 
     Page<EventDTO> getAllEventsPaginated(boolean includeTickets, Pageable pageable);
 
+    CursorPage<EventDTO> getEventsAfter(boolean includeTickets, String cursor, int size);
+
     List<EventDTO> fetchAndSaveEventsFromApi();
 
     void refreshEventsFromApi();
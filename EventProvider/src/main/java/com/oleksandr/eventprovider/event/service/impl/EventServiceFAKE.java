@@ -1,5 +1,6 @@
 package com.oleksandr.eventprovider.event.service.impl;
 
+import com.oleksandr.common.dto.CursorPage;
 import com.oleksandr.common.dto.EventDTO;
 import com.oleksandr.common.dto.TicketDTO;
 import com.oleksandr.eventprovider.Ticket.mapper.TicketMapper;
@@ -77,6 +78,11 @@ public Page<EventDTO> getAllEventsPaginated(boolean includeTickets, Pageable pag
         throw new UnsupportedOperationException("Fake class not support this operation.");
     }
 
+    @Override
+    public CursorPage<EventDTO> getEventsAfter(boolean includeTickets, String cursor, int size) {
+        throw new UnsupportedOperationException("Fake class not support this operation.");
+    }
+
     @Override
     public List<EventDTO> fetchAndSaveEventsFromApi() {
         throw new UnsupportedOperationException("Fake class not support this operation.");
@@ -1,6 +1,9 @@
 package com.oleksandr.eventprovider.event.service.impl;
 
+import com.oleksandr.common.catalog.EventCatalogChange;
+import com.oleksandr.common.dto.CursorPage;
 import com.oleksandr.common.dto.EventDTO;
+import com.oleksandr.common.pagination.EventCursor;
 import com.oleksandr.common.dto.TicketDTO;
 import com.oleksandr.eventprovider.Ticket.util.TicketCreationManager;
 import com.oleksandr.eventprovider.TicketMaster.EventProviderService;
@@ -10,16 +13,24 @@
 import com.oleksandr.eventprovider.event.model.Event;
 import com.oleksandr.eventprovider.event.output.repository.EventRepository;
 import com.oleksandr.eventprovider.event.service.api.EventService;
+import com.oleksandr.eventprovider.kafka.CatalogChangePublisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Primary;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Primary
@@ -31,15 +42,18 @@ public class EventServiceReal implements EventService {
     private final EventMapper eventMapper;
     private final EventProviderService eventProviderService;
     private final TicketCreationManager ticketCreationManager;
+    private final CatalogChangePublisher catalogChangePublisher;
 
     public EventServiceReal(EventRepository eventRepository,
                             EventMapper eventMapper,
                             EventProviderService eventProviderService,
-                            TicketCreationManager ticketCreationManager) {
+                            TicketCreationManager ticketCreationManager,
+                            CatalogChangePublisher catalogChangePublisher) {
         this.eventRepository = eventRepository;
         this.eventMapper = eventMapper;
         this.eventProviderService = eventProviderService;
         this.ticketCreationManager = ticketCreationManager;
+        this.catalogChangePublisher = catalogChangePublisher;
     }
 
     @Override
@@ -117,6 +131,55 @@ public Page<EventDTO> getAllEventsPaginated(boolean includeTickets, Pageable pag
         }
     }
 
+    @Transactional
+    @Override
+    public CursorPage<EventDTO> getEventsAfter(boolean includeTickets, String cursor, int size) {
+        logger.debug("Fetching events after cursor={}, size={}, includeTickets={}", cursor, size, includeTickets);
+
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("Page size must be between 1 and 100");
+        }
+        EventCursor after = EventCursor.decode(cursor);
+        List<Event> events = seek(after, size + 1);
+        if (events.isEmpty() && after == null) {
+            logger.info("No events found in database, fetching from external API");
+            fetchAndSaveEventsFromApi();
+            events = seek(null, size + 1);
+        }
+
+        boolean hasNext = events.size() > size;
+        List<Event> slice = hasNext ? events.subList(0, size) : events;
+        String nextCursor = null;
+        if (hasNext) {
+            Event last = slice.get(slice.size() - 1);
+            nextCursor = new EventCursor(last.getEventDate(), last.getId()).encode();
+        }
+        logger.info("Retrieved {} events after cursor, hasNext={}", slice.size(), hasNext);
+
+        List<EventDTO> content = slice.stream()
+                .map(includeTickets ? eventMapper::mapToDto : eventMapper::mapToDtoWithoutTickets)
+                .toList();
+        return new CursorPage<>(content, nextCursor);
+    }
+
+    // Dated events first, then the ones without a date, matching ORDER BY event_date NULLS LAST
+    private List<Event> seek(EventCursor after, int limit) {
+        boolean inDated = after == null || after.eventDate() != null;
+        List<Event> events = new ArrayList<>(limit);
+        if (inDated) {
+            events.addAll(after == null
+                    ? eventRepository.findDatedFirst(Limit.of(limit))
+                    : eventRepository.findDatedAfter(after.eventDate(), after.id(), Limit.of(limit)));
+        }
+        if (events.size() < limit) {
+            Limit rest = Limit.of(limit - events.size());
+            events.addAll(inDated
+                    ? eventRepository.findUndatedFirst(rest)
+                    : eventRepository.findUndatedAfter(after.id(), rest));
+        }
+        return events;
+    }
+
     public List<EventDTO> fetchAndSaveEventsFromApi() {
         logger.info("Fetching events from Ticketmaster API");
 
@@ -167,7 +230,9 @@ public List<EventDTO> fetchAndSaveEventsFromApi() {
             long countAfterSave = eventRepository.count();
             logger.info("Database count after save and flush: {}", countAfterSave);
 
-            return eventMapper.mapListToDtoList(savedEvents);
+            List<EventDTO> saved = eventMapper.mapListToDtoList(savedEvents);
+            catalogChangePublisher.publishAfterCommit(saved.stream().map(EventCatalogChange::created).toList());
+            return saved;
 
         } catch (TicketmasterApiException e) {
             logger.error("Ticketmaster API error: {}", e.getMessage());
@@ -184,16 +249,61 @@ public void refreshEventsFromApi() {
         logger.info("Starting events refresh from Ticketmaster API");
 
         try {
-            long deletedCount = eventRepository.count();
-            eventRepository.deleteAll();
-            logger.warn("Deleted {} events from database", deletedCount);
+            List<Event> eventsFromApi = eventProviderService.getRealEvents();
+            if (eventsFromApi == null || eventsFromApi.isEmpty()) {
+                throw new TicketmasterApiException("Ticketmaster API returned empty response");
+            }
 
-            List<EventDTO> newEvents = fetchAndSaveEventsFromApi();
-            logger.info("Successfully refreshed {} events from Ticketmaster API", newEvents.size());
+            // Reconciled by externalId so kept events keep their id and tickets, which the Monolith bookings point at
+            Map<String, Event> fresh = eventsFromApi.stream()
+                    .filter(event -> event.getExternalId() != null && !event.getExternalId().isBlank())
+                    .collect(Collectors.toMap(Event::getExternalId, Function.identity(), (a, b) -> a, LinkedHashMap::new));
+
+            List<Event> updatedEvents = new ArrayList<>();
+            List<Event> removedEvents = new ArrayList<>();
+            for (Event stored : eventRepository.findAll()) {
+                Event received = fresh.remove(stored.getExternalId());
+                if (received == null) {
+                    removedEvents.add(stored);
+                } else if (copyDetails(received, stored)) {
+                    updatedEvents.add(stored);
+                }
+            }
+            List<Event> newEvents = new ArrayList<>(fresh.values());
+            ticketCreationManager.fillTicketsForAllEvents(newEvents);
+
+            eventRepository.deleteAll(removedEvents);
+            List<Event> savedEvents = eventRepository.saveAll(newEvents);
+            eventRepository.flush();
+
+            List<EventCatalogChange> changes = new ArrayList<>();
+            savedEvents.forEach(event -> changes.add(EventCatalogChange.created(eventMapper.mapToDto(event))));
+            updatedEvents.forEach(event -> changes.add(EventCatalogChange.updated(eventMapper.mapToDto(event))));
+            removedEvents.forEach(event -> changes.add(EventCatalogChange.deleted(event.getId())));
+            catalogChangePublisher.publishAfterCommit(changes);
+
+            logger.info("Refreshed events from Ticketmaster API: {} new, {} updated, {} removed",
+                    savedEvents.size(), updatedEvents.size(), removedEvents.size());
 
         } catch (Exception e) {
             logger.error("Failed to refresh events from API", e);
             throw new TicketmasterApiException("Failed to refresh events", e);
         }
     }
-}
\ No newline at end of file
+
+    private static boolean copyDetails(Event from, Event to) {
+        boolean changed = !Objects.equals(from.getName(), to.getName())
+                || !Objects.equals(from.getDescription(), to.getDescription())
+                || !Objects.equals(from.getLocation(), to.getLocation())
+                || !Objects.equals(from.getEventDate(), to.getEventDate())
+                || !Objects.equals(from.getImageURL(), to.getImageURL());
+        if (changed) {
+            to.setName(from.getName());
+            to.setDescription(from.getDescription());
+            to.setLocation(from.getLocation());
+            to.setEventDate(from.getEventDate());
+            to.setImageURL(from.getImageURL());
+        }
+        return changed;
+    }
+}
@@ -0,0 +1,49 @@
+package com.oleksandr.eventprovider.kafka;
+
+import com.oleksandr.common.catalog.EventCatalogChange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogChangePublisher {
+
+    private final KafkaTemplate<String, EventCatalogChange> kafkaTemplate;
+
+    /**
+     * Sends the changes once the surrounding transaction commits, so consumers never see rolled back rows.
+     * A lost record is repaired by the Monolith's periodic full sync.
+     */
+    public void publishAfterCommit(List<EventCatalogChange> changes) {
+        if (changes.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(changes);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(changes);
+            }
+        });
+    }
+
+    private void publish(List<EventCatalogChange> changes) {
+        for (EventCatalogChange change : changes) {
+            kafkaTemplate.send(EventCatalogChange.TOPIC, change.eventId().toString(), change)
+                    .whenComplete((result, ex) -> {
+                        if (ex != null) {
+                            log.warn("Failed to publish {} of event {}: {}", change.type(), change.eventId(), ex.getMessage());
+                        }
+                    });
+        }
+        log.info("Published {} catalog changes to {}", changes.size(), EventCatalogChange.TOPIC);
+    }
+}
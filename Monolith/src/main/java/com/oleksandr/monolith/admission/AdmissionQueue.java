@@ -0,0 +1,91 @@
+package com.oleksandr.monolith.admission;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Waiting line of a single event. Every user gets a position once; positions below the
+ * admission frontier may book. The frontier advances at a fixed rate but never runs more than
+ * {@code burst} positions ahead of the line, so an idle queue cannot bank unlimited admissions.
+ */
+final class AdmissionQueue {
+
+    private final UUID eventId;
+    private final double ratePerSecond;
+    private final long burst;
+
+    private final Map<UUID, Long> positions = new HashMap<>();
+    private long issued;
+    private double frontier;
+    private long lastAdvanceNanos;
+    private long lastJoinNanos;
+    private boolean closed;
+
+    AdmissionQueue(UUID eventId, double ratePerSecond, long burst, long nowNanos) {
+        this.eventId = eventId;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.frontier = burst;
+        this.lastAdvanceNanos = nowNanos;
+        this.lastJoinNanos = nowNanos;
+    }
+
+    UUID eventId() {
+        return eventId;
+    }
+
+    double ratePerSecond() {
+        return ratePerSecond;
+    }
+
+    /**
+     * Position of the user, or -1 once the queue was closed for being idle.
+     */
+    synchronized long join(UUID userId, long nowNanos) {
+        if (closed) return -1;
+        advance(nowNanos);
+        lastJoinNanos = nowNanos;
+        return positions.computeIfAbsent(userId, id -> issued++);
+    }
+
+    /**
+     * Closes the queue when nobody joined or polled it for {@code idleNanos}. Users still waiting
+     * keep polling through {@link #join}, so only abandoned positions are dropped.
+     */
+    synchronized boolean closeIfIdle(long nowNanos, long idleNanos) {
+        if (!closed && nowNanos - lastJoinNanos >= idleNanos) {
+            closed = true;
+        }
+        return closed;
+    }
+
+    synchronized boolean isAdmitted(long position, long nowNanos) {
+        advance(nowNanos);
+        return position < frontier;
+    }
+
+    /**
+     * Milliseconds until the given position is admitted at the current rate, 0 if it already is.
+     */
+    synchronized long waitMillis(long position, long nowNanos) {
+        advance(nowNanos);
+        double behind = position + 1 - frontier;
+        return behind <= 0 ? 0 : (long) Math.ceil(behind / ratePerSecond * 1000);
+    }
+
+    synchronized void leave(UUID userId) {
+        positions.remove(userId);
+    }
+
+    synchronized long depth(long nowNanos) {
+        advance(nowNanos);
+        return Math.max(0, issued - (long) frontier);
+    }
+
+    private void advance(long nowNanos) {
+        double elapsedSeconds = (nowNanos - lastAdvanceNanos) / 1_000_000_000d;
+        lastAdvanceNanos = nowNanos;
+        frontier = Math.min(frontier + elapsedSeconds * ratePerSecond, issued + burst);
+    }
+}
@@ -0,0 +1,204 @@
+package com.oleksandr.monolith.admission;
+
+import com.oleksandr.monolith.admission.output.dto.AdmissionStatusDTO;
+import com.oleksandr.monolith.common.exceptions.AdmissionRequiredException;
+import com.oleksandr.monolith.common.exceptions.ResourceNotFoundException;
+import com.oleksandr.monolith.event.repository.EventRepository;
+import com.oleksandr.monolith.ticket.inventory.TicketInventory;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Virtual waiting room in front of the booking endpoints. Users join the queue of an event,
+ * poll until their position is admitted and receive a short-lived, single-use signed token that
+ * {@code BookingsController} checks before the booking transaction takes a connection.
+ * <p>
+ * Spent tokens are tracked in memory, so single use holds per instance only: with several
+ * replicas a token can book once on each of them until it expires.
+ */
+@Slf4j
+@Service
+public class AdmissionService {
+
+    private final AdmissionTokenSigner tokenSigner;
+    private final TicketInventory ticketInventory;
+    private final EventRepository eventRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final double ratePerSecond;
+    private final long burst;
+    private final Duration tokenTtl;
+    private final long idleNanos;
+
+    private final Map<UUID, EventQueue> queues = new ConcurrentHashMap<>();
+    // Tokens held by a booking in flight or spent on a successful one, until they expire
+    private final Map<String, Instant> usedTokens = new ConcurrentHashMap<>();
+
+    public AdmissionService(AdmissionTokenSigner tokenSigner,
+                            TicketInventory ticketInventory,
+                            EventRepository eventRepository,
+                            MeterRegistry meterRegistry,
+                            @Value("${admission.enabled:false}") boolean enabled,
+                            @Value("${admission.rate-per-second:50}") double ratePerSecond,
+                            @Value("${admission.burst:100}") long burst,
+                            @Value("${admission.token.ttl-seconds:600}") long tokenTtlSeconds,
+                            @Value("${admission.queue.idle-seconds:300}") long idleSeconds) {
+        this.tokenSigner = tokenSigner;
+        this.ticketInventory = ticketInventory;
+        this.eventRepository = eventRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.tokenTtl = Duration.ofSeconds(tokenTtlSeconds);
+        this.idleNanos = Duration.ofSeconds(idleSeconds).toNanos();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Joins the event queue or reports progress for a user already in it.
+     * Repeated calls keep the original position.
+     */
+    public AdmissionStatusDTO enter(UUID eventId, UUID userId) {
+        if (!enabled) {
+            return AdmissionStatusDTO.builder().eventId(eventId).admitted(true).build();
+        }
+
+        EventQueue eventQueue = queueOf(eventId);
+        long now = System.nanoTime();
+        long position;
+        while ((position = eventQueue.queue().join(userId, now)) < 0) {
+            // closed as idle just now, a fresh queue replaces it
+            eventQueue = queueOf(eventId);
+        }
+        AdmissionQueue queue = eventQueue.queue();
+
+        if (!queue.isAdmitted(position, now)) {
+            return AdmissionStatusDTO.builder()
+                    .eventId(eventId)
+                    .position(position)
+                    .queueDepth(queue.depth(now))
+                    .admitted(false)
+                    .retryAfterMillis(queue.waitMillis(position, now))
+                    .build();
+        }
+
+        queue.leave(userId);
+        eventQueue.admitted().increment();
+        Instant expiresAt = Instant.now().plus(tokenTtl);
+        log.debug("User {} admitted to event {} at position {}", userId, eventId, position);
+        return AdmissionStatusDTO.builder()
+                .eventId(eventId)
+                .position(position)
+                .queueDepth(queue.depth(now))
+                .admitted(true)
+                .token(tokenSigner.issue(eventId, userId, expiresAt))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    /**
+     * Throws {@link AdmissionRequiredException} unless the token admits the user to the events
+     * of all given tickets, and holds the token for this booking. Signature, user and expiry are
+     * checked first, so requests without a valid token are rejected before any ticket lookup.
+     * Call {@link #releaseAdmission} if the booking fails, so the user can retry with the same token.
+     */
+    public void checkAdmission(UUID userId, Collection<UUID> ticketIds, String token) {
+        if (!enabled) return;
+
+        AdmissionTokenSigner.Claims claims = tokenSigner.verify(token, Instant.now());
+        if (claims == null || !claims.userId().equals(userId)) {
+            log.warn("Rejected booking without valid admission: userId={}", userId);
+            throw new AdmissionRequiredException("Valid admission token required");
+        }
+        ticketIds.stream()
+                .map(ticketInventory::eventIdOf)
+                .distinct()
+                .filter(eventId -> !eventId.equals(claims.eventId()))
+                .findFirst()
+                .ifPresent(eventId -> {
+                    log.warn("Rejected booking with admission to another event: userId={}, eventId={}", userId, eventId);
+                    throw new AdmissionRequiredException("Valid admission token required for event: " + eventId);
+                });
+        if (usedTokens.putIfAbsent(token, claims.expiresAt()) != null) {
+            log.warn("Rejected reused admission token: userId={}, eventId={}", userId, claims.eventId());
+            throw new AdmissionRequiredException("Admission token already used for event: " + claims.eventId());
+        }
+    }
+
+    /**
+     * Makes a token held by {@link #checkAdmission} usable again after its booking failed.
+     */
+    public void releaseAdmission(String token) {
+        if (!enabled || token == null) return;
+        usedTokens.remove(token);
+    }
+
+    /**
+     * Forgets expired tokens and drops queues nobody joined or polled for a while, with their meters.
+     */
+    @Scheduled(fixedDelayString = "${admission.cleanup-ms:60000}")
+    public void cleanUp() {
+        Instant now = Instant.now();
+        usedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+
+        long nowNanos = System.nanoTime();
+        for (UUID eventId : queues.keySet()) {
+            // computeIfPresent keeps a concurrent queueOf from registering meters that are being removed
+            queues.computeIfPresent(eventId, (id, eventQueue) -> {
+                if (!eventQueue.queue().closeIfIdle(nowNanos, idleNanos)) return eventQueue;
+                eventQueue.meters().forEach(meterRegistry::remove);
+                log.info("Admission queue closed for idle eventId={}", id);
+                return null;
+            });
+        }
+    }
+
+    private EventQueue queueOf(UUID eventId) {
+        EventQueue eventQueue = queues.get(eventId);
+        if (eventQueue != null) return eventQueue;
+
+        if (!eventRepository.existsById(eventId)) {
+            throw new ResourceNotFoundException("Event not found: " + eventId);
+        }
+        return queues.computeIfAbsent(eventId, id -> {
+            AdmissionQueue created = new AdmissionQueue(id, ratePerSecond, burst, System.nanoTime());
+            Gauge depth = Gauge.builder("admission.queue.depth", created, q -> q.depth(System.nanoTime()))
+                    .description("Users waiting for admission")
+                    .tag("event", id.toString())
+                    .register(meterRegistry);
+            Gauge rate = Gauge.builder("admission.admit.rate", created, AdmissionQueue::ratePerSecond)
+                    .description("Configured admissions per second")
+                    .baseUnit("users/s")
+                    .tag("event", id.toString())
+                    .register(meterRegistry);
+            Counter admitted = Counter.builder("admission.admitted")
+                    .description("Admission tokens issued")
+                    .tag("event", id.toString())
+                    .register(meterRegistry);
+            log.info("Admission queue opened for eventId={}, rate={}/s, burst={}", id, ratePerSecond, burst);
+            return new EventQueue(created, admitted, List.of(depth, rate, admitted));
+        });
+    }
+
+    private record EventQueue(AdmissionQueue queue, Counter admitted, List<Meter> meters) {
+    }
+}
@@ -0,0 +1,85 @@
+package com.oleksandr.monolith.admission;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * HMAC-SHA256 signed admission tokens: {@code base64url(eventId:userId:expiresAt).base64url(mac)}.
+ * Verification is local and needs no storage, so bookings can be gated before any DB work.
+ */
+@Component
+public class AdmissionTokenSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public AdmissionTokenSigner(@Value("${admission.token.secret:${jwt.secret}}") String secret) {
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+    }
+
+    public String issue(UUID eventId, UUID userId, Instant expiresAt) {
+        // the nonce makes every token distinct, so single use can be tracked per token
+        String payload = eventId + ":" + userId + ":" + expiresAt.getEpochSecond() + ":" + UUID.randomUUID();
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload.getBytes(StandardCharsets.UTF_8))
+                + "." + encoder.encodeToString(mac(payload));
+    }
+
+    public boolean verify(String token, UUID eventId, UUID userId, Instant now) {
+        Claims claims = verify(token, now);
+        return claims != null && claims.eventId().equals(eventId) && claims.userId().equals(userId);
+    }
+
+    /**
+     * Returns the claims of a correctly signed, unexpired token, or null.
+     */
+    public Claims verify(String token, Instant now) {
+        if (token == null) return null;
+        int dot = token.indexOf('.');
+        if (dot <= 0) return null;
+
+        String payload;
+        byte[] signature;
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            payload = new String(decoder.decode(token.substring(0, dot)), StandardCharsets.UTF_8);
+            signature = decoder.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (!MessageDigest.isEqual(mac(payload), signature)) return null;
+
+        String[] parts = payload.split(":");
+        if (parts.length != 4) return null;
+        try {
+            Instant expiresAt = Instant.ofEpochSecond(Long.parseLong(parts[2]));
+            if (!expiresAt.isAfter(now)) return null;
+            return new Claims(UUID.fromString(parts[0]), UUID.fromString(parts[1]), expiresAt);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] mac(String payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(payload.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign admission token", e);
+        }
+    }
+
+    public record Claims(UUID eventId, UUID userId, Instant expiresAt) {
+    }
+}
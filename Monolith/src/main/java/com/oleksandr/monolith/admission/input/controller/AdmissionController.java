@@ -0,0 +1,34 @@
+package com.oleksandr.monolith.admission.input.controller;
+
+import com.oleksandr.monolith.admission.AdmissionService;
+import com.oleksandr.monolith.admission.output.dto.AdmissionStatusDTO;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/admission")
+@CrossOrigin(origins = "*", maxAge = 3600)
+public class AdmissionController {
+
+    private final AdmissionService admissionService;
+
+    public AdmissionController(AdmissionService admissionService) {
+        this.admissionService = admissionService;
+    }
+
+    @PostMapping("/{eventId}")
+    public ResponseEntity<AdmissionStatusDTO> enter(@PathVariable UUID eventId, UUID userId) {
+        AdmissionStatusDTO status = admissionService.enter(eventId, userId);
+        if (status.admitted()) {
+            return ResponseEntity.ok(status);
+        }
+        long retryAfterSeconds = Math.max(1, (status.retryAfterMillis() + 999) / 1000);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                .body(status);
+    }
+}
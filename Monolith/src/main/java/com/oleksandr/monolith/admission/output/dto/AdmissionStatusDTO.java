@@ -0,0 +1,17 @@
+package com.oleksandr.monolith.admission.output.dto;
+
+import lombok.Builder;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Builder
+public record AdmissionStatusDTO(
+        UUID eventId,
+        long position,
+        long queueDepth,
+        boolean admitted,
+        String token,
+        Instant expiresAt,
+        long retryAfterMillis
+) { }
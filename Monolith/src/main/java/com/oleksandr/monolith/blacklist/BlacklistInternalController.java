@@ -27,4 +27,16 @@ public ResponseEntity<Void> addToBlacklist(@RequestBody AddToBlacklistRequest re
         blacklistService.addToBlacklist(request.getToken());
         return ResponseEntity.ok().build();
     }
+
+    @PostMapping("/revoke-user")
+    public ResponseEntity<Void> revokeUserTokens(@RequestBody RevokeUserTokensRequest request) {
+        log.info("Received token revocation for user {} from RegisterMS", request.getUserId());
+
+        if (request.getUserId() == null || request.getRevokedBefore() == null) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        blacklistService.revokeTokensIssuedBefore(request.getUserId(), request.getRevokedBefore());
+        return ResponseEntity.ok().build();
+    }
 }
@@ -1,11 +1,16 @@
 package com.oleksandr.monolith.blacklist;
 
+import com.oleksandr.common.token.TokenDigest;
+import com.oleksandr.monolith.common.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
+import java.util.Optional;
 import java.util.UUID;
 
 @Service
@@ -14,28 +19,77 @@
 public class BlacklistService {
 
     private final BlacklistedTokenRepository blacklistRepository;
+    private final UserTokenRevocationRepository userRevocationRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final RevocationStore revocationStore;
 
     @Transactional
     public void addToBlacklist(String token) {
-        if (blacklistRepository.findByToken(token).isPresent()) {
+        byte[] tokenHash = TokenDigest.sha256(token);
+        Optional<BlacklistedToken> existing = blacklistRepository.findByTokenHash(tokenHash);
+        if (existing.isPresent()) {
+            revocationStore.revoke(token, existing.get().getExpiresAt());
+            evictAfterCommit(token);
             log.warn("Token already in blacklist: {}", token.substring(0, 20));
             return;
         }
 
         BlacklistedToken blacklistedToken = BlacklistedToken.builder()
-                .id(UUID.randomUUID())
-                .token(token)
+                .tokenHash(tokenHash)
                 .userId(null)
                 .blacklistedAt(Instant.now())
                 .expiresAt(Instant.now().plusSeconds(3600)) // 1 hour
                 .build();
 
         blacklistRepository.save(blacklistedToken);
+        revocationStore.revoke(token, blacklistedToken.getExpiresAt());
+        evictAfterCommit(token);
         log.info("Token added to blacklist");
     }
 
+    // Also evicted after commit: a request verified before the row was visible may have cached it again
+    private void evictAfterCommit(String token) {
+        verifiedTokenCache.evict(token);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                verifiedTokenCache.evict(token);
+            }
+        });
+    }
+
+    /**
+     * Revokes every access token of the user issued before {@code revokedBefore}
+     * with a single row, instead of blacklisting the tokens one by one.
+     */
+    @Transactional
+    public void revokeTokensIssuedBefore(UUID userId, Instant revokedBefore) {
+        Instant expiresAt = revokedBefore.plusSeconds(3600); // 1 hour, the access token lifetime
+        userRevocationRepository.upsert(userId, revokedBefore, Instant.now(), expiresAt);
+        revocationStore.revokeUser(userId, revokedBefore, expiresAt);
+        log.info("Tokens of user {} issued before {} revoked", userId, revokedBefore);
+    }
+
+    /**
+     * Whether a token of the user issued at {@code issuedAt} (epoch milliseconds) has been revoked.
+     */
+    public boolean isRevoked(UUID userId, long issuedAt) {
+        return revocationStore.isRevoked(userId, issuedAt, this::revokedBeforeInDatabase);
+    }
+
+    private Optional<Instant> revokedBeforeInDatabase(UUID userId) {
+        return userRevocationRepository.findById(userId)
+                .filter(revocation -> revocation.getExpiresAt().isAfter(Instant.now()))
+                .map(UserTokenRevocation::getRevokedBefore);
+    }
+
     public boolean isBlacklisted(String token) {
-        return blacklistRepository.findByToken(token)
+        return revocationStore.isRevoked(token, this::isBlacklistedInDatabase);
+    }
+
+    private boolean isBlacklistedInDatabase(byte[] tokenHash) {
+        return blacklistRepository.findByTokenHash(tokenHash)
                 .map(blacklistedToken -> {
                     boolean isValid = blacklistedToken.getExpiresAt().isAfter(Instant.now());
                     if (!isValid) {
@@ -48,7 +102,9 @@ public boolean isBlacklisted(String token) {
 
     @Transactional
     public void cleanupExpiredTokens() {
-        blacklistRepository.deleteExpiredTokens(Instant.now());
+        Instant now = Instant.now();
+        blacklistRepository.deleteExpiredTokens(now);
+        userRevocationRepository.deleteExpired(now);
         log.info("Expired tokens cleaned up");
     }
 }
@@ -1,5 +1,6 @@
 package com.oleksandr.monolith.blacklist;
 
+import com.oleksandr.common.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -18,11 +19,12 @@
 public class BlacklistedToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @GeneratedUuidV7
     private UUID id;
 
-    @Column(name = "token", nullable = false, unique = true, length = 1000)
-    private String token;
+    // SHA-256 of the JWT, the token itself is never stored
+    @Column(name = "token_hash", nullable = false, unique = true, length = 32)
+    private byte[] tokenHash;
 
     @Column(name = "user_id")
     private UUID userId;
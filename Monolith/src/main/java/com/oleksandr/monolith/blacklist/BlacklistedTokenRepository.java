@@ -7,13 +7,16 @@
 import org.springframework.stereotype.Repository;
 
 import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface BlacklistedTokenRepository extends JpaRepository<BlacklistedToken, UUID> {
 
-    Optional<BlacklistedToken> findByToken(String token);
+    Optional<BlacklistedToken> findByTokenHash(byte[] tokenHash);
+
+    List<BlacklistedToken> findByBlacklistedAtGreaterThanEqualAndExpiresAtAfter(Instant since, Instant now);
 
     @Modifying
     @Query("DELETE FROM BlacklistedToken bt WHERE bt.expiresAt < :now")
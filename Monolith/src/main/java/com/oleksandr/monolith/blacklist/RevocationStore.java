@@ -0,0 +1,164 @@
+package com.oleksandr.monolith.blacklist;
+
+import com.oleksandr.common.token.TokenDigest;
+import com.oleksandr.monolith.common.VerifiedTokenCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-memory copy of the active rows of {@code blacklisted_tokens} and {@code user_token_revocations}.
+ * For single tokens a Bloom filter answers "not revoked" for almost every token, and a set of token
+ * digests confirms the hits; per-user epochs revoke every token issued before them, to the millisecond.
+ * Loaded on startup and refreshed every {@code blacklist.refresh-ms} to pick up revocations
+ * made through other instances; expired entries are pruned on the same pass.
+ */
+@Slf4j
+@Component
+public class RevocationStore {
+
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final BlacklistedTokenRepository blacklistRepository;
+    private final UserTokenRevocationRepository userRevocationRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final int expectedTokens;
+    private final Duration refreshOverlap;
+
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+    private final Map<UUID, Epoch> epochs = new ConcurrentHashMap<>();
+    private volatile TokenBloomFilter filter;
+    private volatile boolean loaded;
+    private volatile Instant refreshedAt = Instant.EPOCH;
+
+    public RevocationStore(BlacklistedTokenRepository blacklistRepository,
+                           UserTokenRevocationRepository userRevocationRepository,
+                           VerifiedTokenCache verifiedTokenCache,
+                           @Value("${blacklist.bloom.expected-tokens:100000}") int expectedTokens,
+                           @Value("${blacklist.refresh-ms:30000}") long refreshMillis) {
+        this.blacklistRepository = blacklistRepository;
+        this.userRevocationRepository = userRevocationRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.expectedTokens = expectedTokens;
+        // rows committed late or stamped by a lagging clock are still caught by the next pass
+        this.refreshOverlap = Duration.ofMillis(refreshMillis * 2);
+        this.filter = new TokenBloomFilter(expectedTokens, FALSE_POSITIVE_RATE);
+    }
+
+    /**
+     * Whether the token is revoked. {@code database} is only asked for Bloom filter hits that the
+     * digest set does not explain, and for every token until the first load has finished.
+     */
+    public boolean isRevoked(String token, Predicate<byte[]> database) {
+        byte[] digest = TokenDigest.sha256(token);
+        if (loaded && !filter.mightContain(digest)) return false;
+        if (revoked.containsKey(TokenDigest.hex(digest))) return true;
+
+        boolean revokedInDatabase = database.test(digest);
+        if (revokedInDatabase) {
+            // kept until the next refresh brings the row with its real expiry
+            add(digest, Instant.now().plus(refreshOverlap));
+        }
+        return revokedInDatabase;
+    }
+
+    public void revoke(String token, Instant expiresAt) {
+        add(TokenDigest.sha256(token), expiresAt);
+    }
+
+    /**
+     * Whether the user's tokens issued at {@code issuedAt} (epoch milliseconds) are revoked, that is
+     * issued strictly before the user's epoch. A login in the same second as the logout stays valid.
+     * {@code database} supplies the stored epoch only until the first load has finished.
+     */
+    public boolean isRevoked(UUID userId, long issuedAt, Function<UUID, Optional<Instant>> database) {
+        if (loaded) {
+            Epoch epoch = epochs.get(userId);
+            return epoch != null && issuedAt < epoch.revokedBefore();
+        }
+        return database.apply(userId)
+                .map(revokedBefore -> issuedAt < revokedBefore.toEpochMilli())
+                .orElse(false);
+    }
+
+    public void revokeUser(UUID userId, Instant revokedBefore, Instant expiresAt) {
+        epochs.merge(userId, new Epoch(revokedBefore.toEpochMilli(), expiresAt), Epoch::later);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${blacklist.refresh-ms:30000}")
+    public void refresh() {
+        Instant now = Instant.now();
+        Instant since = loaded ? refreshedAt.minus(refreshOverlap) : Instant.EPOCH;
+        List<BlacklistedToken> rows = blacklistRepository
+                .findByBlacklistedAtGreaterThanEqualAndExpiresAtAfter(since, now);
+        List<UserTokenRevocation> userRows = userRevocationRepository
+                .findByRevokedAtGreaterThanEqualAndExpiresAtAfter(since, now);
+        apply(rows, userRows, now);
+    }
+
+    private synchronized void apply(List<BlacklistedToken> rows, List<UserTokenRevocation> userRows, Instant now) {
+        int before = revoked.size();
+        for (BlacklistedToken row : rows) {
+            add(row.getTokenHash(), row.getExpiresAt());
+            verifiedTokenCache.evict(row.getTokenHash());
+        }
+        int added = revoked.size() - before;
+        userRows.forEach(row -> revokeUser(row.getUserId(), row.getRevokedBefore(), row.getExpiresAt()));
+
+        boolean pruned = revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        if (pruned || revoked.size() > expectedTokens) {
+            rebuildFilter();
+        }
+        boolean prunedEpochs = epochs.values().removeIf(epoch -> !epoch.expiresAt().isAfter(now));
+        refreshedAt = now;
+        if (!loaded) {
+            loaded = true;
+            log.info("Revocation store loaded with {} active token(s) and {} user epoch(s)",
+                    revoked.size(), epochs.size());
+        } else if (added > 0 || pruned || !userRows.isEmpty() || prunedEpochs) {
+            log.debug("Revocation store refreshed: {} added, {} active, {} user epoch(s)",
+                    added, revoked.size(), epochs.size());
+        }
+    }
+
+    // Synchronized with rebuildFilter so that no digest is put into a filter that is being replaced
+    private synchronized void add(byte[] digest, Instant expiresAt) {
+        revoked.merge(TokenDigest.hex(digest), expiresAt, (a, b) -> a.isAfter(b) ? a : b);
+        filter.put(digest);
+    }
+
+    // Bits cannot be cleared, so pruned digests leave the filter by building a fresh one
+    private synchronized void rebuildFilter() {
+        TokenBloomFilter rebuilt = new TokenBloomFilter(Math.max(expectedTokens, revoked.size() * 2),
+                FALSE_POSITIVE_RATE);
+        revoked.keySet().forEach(hex -> rebuilt.put(HexFormat.of().parseHex(hex)));
+        filter = rebuilt;
+    }
+
+    private record Epoch(long revokedBefore, Instant expiresAt) {
+
+        Epoch later(Epoch other) {
+            return new Epoch(Math.max(revokedBefore, other.revokedBefore),
+                    expiresAt.isAfter(other.expiresAt) ? expiresAt : other.expiresAt);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.oleksandr.monolith.blacklist;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevokeUserTokensRequest {
+    private UUID userId;
+    private Instant revokedBefore;
+}
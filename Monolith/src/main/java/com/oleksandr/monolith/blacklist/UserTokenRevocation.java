@@ -0,0 +1,34 @@
+package com.oleksandr.monolith.blacklist;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "user_token_revocations")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserTokenRevocation {
+
+    @Id
+    @Column(name = "user_id")
+    private UUID userId;
+
+    // Tokens of the user issued at or before this second are revoked
+    @Column(name = "revoked_before", nullable = false)
+    private Instant revokedBefore;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    // Once every token covered by the epoch has expired the row can go
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
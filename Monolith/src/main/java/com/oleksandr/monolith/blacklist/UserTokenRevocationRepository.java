@@ -0,0 +1,35 @@
+package com.oleksandr.monolith.blacklist;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface UserTokenRevocationRepository extends JpaRepository<UserTokenRevocation, UUID> {
+
+    // The epoch only moves forward, a late or repeated notification cannot un-revoke tokens
+    @Modifying
+    @Query(value = "INSERT INTO user_token_revocations (user_id, revoked_before, revoked_at, expires_at) " +
+                   "VALUES (:userId, :revokedBefore, :revokedAt, :expiresAt) " +
+                   "ON CONFLICT (user_id) DO UPDATE SET " +
+                   "revoked_before = GREATEST(user_token_revocations.revoked_before, EXCLUDED.revoked_before), " +
+                   "revoked_at = EXCLUDED.revoked_at, " +
+                   "expires_at = GREATEST(user_token_revocations.expires_at, EXCLUDED.expires_at)",
+           nativeQuery = true)
+    void upsert(@Param("userId") UUID userId,
+                @Param("revokedBefore") Instant revokedBefore,
+                @Param("revokedAt") Instant revokedAt,
+                @Param("expiresAt") Instant expiresAt);
+
+    List<UserTokenRevocation> findByRevokedAtGreaterThanEqualAndExpiresAtAfter(Instant since, Instant now);
+
+    @Modifying
+    @Query("DELETE FROM UserTokenRevocation r WHERE r.expiresAt < :now")
+    void deleteExpired(@Param("now") Instant now);
+}
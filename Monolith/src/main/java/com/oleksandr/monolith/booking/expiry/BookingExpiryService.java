@@ -0,0 +1,72 @@
+package com.oleksandr.monolith.booking.expiry;
+
+import com.oleksandr.common.enums.TICKET_STATUS;
+import com.oleksandr.monolith.booking.repository.BookingRepository;
+import com.oleksandr.monolith.outbox.service.OutboxService;
+import com.oleksandr.monolith.ticket.inventory.TicketInventory;
+import com.oleksandr.monolith.ticket.repository.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Releases expired booking holds set-based: one UPDATE ... RETURNING cancels a chunk of bookings,
+ * one UPDATE frees their tickets, and the EventProvider cancellations go through the outbox.
+ */
+@Slf4j
+@Service
+public class BookingExpiryService {
+
+    private final BookingRepository bookingRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketInventory ticketInventory;
+    private final OutboxService outboxService;
+
+    public BookingExpiryService(BookingRepository bookingRepository,
+                                TicketRepository ticketRepository,
+                                TicketInventory ticketInventory,
+                                OutboxService outboxService) {
+        this.bookingRepository = bookingRepository;
+        this.ticketRepository = ticketRepository;
+        this.ticketInventory = ticketInventory;
+        this.outboxService = outboxService;
+    }
+
+    @Transactional
+    public int expire(Collection<UUID> bookingIds, LocalDateTime cutoff) {
+        if (bookingIds.isEmpty()) return 0;
+        return release(bookingRepository.expireHolds(bookingIds, cutoff));
+    }
+
+    /**
+     * Expires up to {@code limit} overdue holds regardless of the wheel, oldest first.
+     */
+    @Transactional
+    public int expireOverdue(LocalDateTime cutoff, int limit) {
+        return release(bookingRepository.expireOverdueHolds(cutoff, limit));
+    }
+
+    private int release(List<Object[]> expired) {
+        if (expired.isEmpty()) return 0;
+
+        List<UUID> ticketIds = new ArrayList<>(expired.size());
+        for (Object[] row : expired) {
+            UUID bookingId = (UUID) row[0];
+            UUID ticketId = (UUID) row[1];
+            ticketIds.add(ticketId);
+            outboxService.reservationCancelled(ticketId, bookingId);
+        }
+
+        List<UUID> released = ticketRepository.releaseReserved(ticketIds);
+        released.forEach(id -> ticketInventory.recordAfterCommit(id, TICKET_STATUS.AVAILABLE));
+
+        log.info("Expired {} booking hold(s), released {} ticket(s)", expired.size(), released.size());
+        return expired.size();
+    }
+}
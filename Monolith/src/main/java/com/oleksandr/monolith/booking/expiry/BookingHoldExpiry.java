@@ -0,0 +1,131 @@
+package com.oleksandr.monolith.booking.expiry;
+
+import com.oleksandr.common.enums.BOOKING_STATUS;
+import com.oleksandr.monolith.booking.model.Booking;
+import com.oleksandr.monolith.booking.repository.BookingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expires booking holds within a tick of their deadline ({@code createdAt + booking.hold.timeout-minutes}).
+ * Deadlines are registered when a booking is created or moves to payment and are rebuilt
+ * from the database on startup; due holds are released in chunks by {@link BookingExpiryService}.
+ * <p>
+ * The wheel ticks on its own thread rather than the shared {@code @Scheduled} pool, so a catalog
+ * sync or an outbox drain never delays expiry.
+ */
+@Slf4j
+@Component
+public class BookingHoldExpiry {
+
+    private static final EnumSet<BOOKING_STATUS> HELD_STATUSES =
+            EnumSet.of(BOOKING_STATUS.CREATED, BOOKING_STATUS.WAITING_FOR_PAYMENT);
+    private static final int WHEEL_SLOTS = 1024;
+
+    private final BookingRepository bookingRepository;
+    private final BookingExpiryService bookingExpiryService;
+    private final Duration holdTimeout;
+    private final int chunkSize;
+    private final HoldTimingWheel wheel;
+    private final long tickMillis;
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "booking-hold-wheel");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public BookingHoldExpiry(BookingRepository bookingRepository,
+                             BookingExpiryService bookingExpiryService,
+                             @Value("${booking.hold.timeout-minutes:15}") long holdTimeoutMinutes,
+                             @Value("${booking.hold.tick-ms:1000}") long tickMillis,
+                             @Value("${booking.hold.chunk-size:500}") int chunkSize) {
+        this.bookingRepository = bookingRepository;
+        this.bookingExpiryService = bookingExpiryService;
+        this.holdTimeout = Duration.ofMinutes(holdTimeoutMinutes);
+        this.chunkSize = chunkSize;
+        this.wheel = new HoldTimingWheel(tickMillis, WHEEL_SLOTS, System.currentTimeMillis());
+        this.tickMillis = tickMillis;
+    }
+
+    /**
+     * Registers the hold deadline once the surrounding transaction commits.
+     */
+    public void schedule(Booking booking) {
+        UUID bookingId = booking.getId();
+        long deadline = deadlineOf(booking.getCreatedAt());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            wheel.add(bookingId, deadline);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                wheel.add(bookingId, deadline);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<BookingHoldView> holds = bookingRepository.findByStatusIn(HELD_STATUSES);
+        holds.forEach(hold -> wheel.add(hold.getId(), deadlineOf(hold.getCreatedAt())));
+        log.info("Booking hold wheel rebuilt with {} open hold(s)", holds.size());
+        ticker.scheduleWithFixedDelay(() -> {
+            try {
+                tick();
+            } catch (RuntimeException e) {
+                // An escaping exception would cancel every later tick
+                log.error("Booking hold wheel tick failed: {}", e.getMessage(), e);
+            }
+        }, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        ticker.shutdownNow();
+    }
+
+    public void tick() {
+        List<UUID> due = wheel.advance(System.currentTimeMillis());
+        if (due.isEmpty()) return;
+
+        LocalDateTime cutoff = cutoff();
+        for (int from = 0; from < due.size(); from += chunkSize) {
+            List<UUID> chunk = due.subList(from, Math.min(from + chunkSize, due.size()));
+            try {
+                bookingExpiryService.expire(chunk, cutoff);
+            } catch (Exception e) {
+                // Left for the reconciliation sweep in BookingExpirationScheduler
+                log.error("Failed to expire {} booking hold(s): {}", chunk.size(), e.getMessage(), e);
+            }
+        }
+    }
+
+    public LocalDateTime cutoff() {
+        return LocalDateTime.now().minus(holdTimeout);
+    }
+
+    public Duration holdTimeout() {
+        return holdTimeout;
+    }
+
+    private long deadlineOf(LocalDateTime createdAt) {
+        return createdAt.plus(holdTimeout).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
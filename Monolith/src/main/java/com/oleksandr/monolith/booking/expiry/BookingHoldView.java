@@ -0,0 +1,9 @@
+package com.oleksandr.monolith.booking.expiry;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface BookingHoldView {
+    UUID getId();
+    LocalDateTime getCreatedAt();
+}
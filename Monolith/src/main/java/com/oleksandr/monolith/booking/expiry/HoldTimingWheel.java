@@ -0,0 +1,64 @@
+package com.oleksandr.monolith.booking.expiry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Hashed timing wheel of booking hold deadlines. A deadline lands in slot
+ * {@code (deadline / tick) % size}; entries whose deadline lies more than one revolution ahead
+ * simply stay in their slot until a later pass finds them due.
+ */
+final class HoldTimingWheel {
+
+    private record Entry(UUID bookingId, long deadlineMillis) { }
+
+    private final long tickMillis;
+    private final List<List<Entry>> slots;
+    private long currentTick;
+    private int pending;
+
+    HoldTimingWheel(long tickMillis, int slotCount, long nowMillis) {
+        this.tickMillis = tickMillis;
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ArrayList<>());
+        }
+        this.currentTick = nowMillis / tickMillis;
+    }
+
+    synchronized void add(UUID bookingId, long deadlineMillis) {
+        // Overdue holds go to the current slot and come out on the next advance
+        long tick = Math.max(deadlineMillis / tickMillis, currentTick);
+        slotOf(tick).add(new Entry(bookingId, deadlineMillis));
+        pending++;
+    }
+
+    /**
+     * Removes and returns every booking whose deadline is not after {@code nowMillis}.
+     * Visits the slots passed since the previous call, at most one full revolution.
+     */
+    synchronized List<UUID> advance(long nowMillis) {
+        long targetTick = nowMillis / tickMillis;
+        long steps = Math.min(targetTick - currentTick + 1, slots.size());
+        List<UUID> due = new ArrayList<>();
+        for (long tick = currentTick; tick < currentTick + steps; tick++) {
+            slotOf(tick).removeIf(entry -> {
+                if (entry.deadlineMillis() > nowMillis) return false;
+                due.add(entry.bookingId());
+                return true;
+            });
+        }
+        currentTick = Math.max(currentTick, targetTick);
+        pending -= due.size();
+        return due;
+    }
+
+    synchronized int pending() {
+        return pending;
+    }
+
+    private List<Entry> slotOf(long tick) {
+        return slots.get((int) Math.floorMod(tick, (long) slots.size()));
+    }
+}
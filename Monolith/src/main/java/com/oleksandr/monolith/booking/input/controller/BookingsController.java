@@ -1,38 +1,74 @@
 package com.oleksandr.monolith.booking.input.controller;
 
+import com.oleksandr.common.dto.CursorPage;
+import com.oleksandr.monolith.admission.AdmissionService;
+import com.oleksandr.monolith.booking.input.dto.BookingBatchCreateRequestDTO;
 import com.oleksandr.monolith.booking.input.dto.BookingCreateRequestDTO;
 import com.oleksandr.monolith.booking.input.dto.BookingDetailsDTO;
 import com.oleksandr.monolith.booking.input.dto.BookingSummaryDTO;
 import com.oleksandr.monolith.coordinator.BookingCoordinator;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.UUID;
 
 @Slf4j
+@Validated
 @RestController
 @RequestMapping("/bookings")
 @CrossOrigin(origins = "*", maxAge = 3600)
 public class BookingsController {
 
+    private static final String ADMISSION_TOKEN_HEADER = "X-Admission-Token";
+
     private final BookingCoordinator bookingCoordinator;
+    private final AdmissionService admissionService;
 
-    public BookingsController(BookingCoordinator bookingCoordinator) {
+    public BookingsController(BookingCoordinator bookingCoordinator, AdmissionService admissionService) {
         this.bookingCoordinator = bookingCoordinator;
+        this.admissionService = admissionService;
     }
 
     @PostMapping
     public ResponseEntity<BookingSummaryDTO> createBooking(
-            @RequestBody BookingCreateRequestDTO bookingDTO,
+            @Valid @RequestBody BookingCreateRequestDTO bookingDTO,
+            @RequestHeader(value = ADMISSION_TOKEN_HEADER, required = false) String admissionToken,
             UUID userId
 
     ) {
+        // Checked here so rejected requests never open a transaction or take a pooled connection
+        admissionService.checkAdmission(userId, List.of(bookingDTO.ticketId()), admissionToken);
+        try {
+            BookingSummaryDTO booking = bookingCoordinator.createBooking(userId, bookingDTO.ticketId());
+            return ResponseEntity.ok(booking);
+        } catch (RuntimeException e) {
+            // The token is spent only by a booking that went through, e.g. not when the seat was taken
+            admissionService.releaseAdmission(admissionToken);
+            throw e;
+        }
+    }
 
-        BookingSummaryDTO booking = bookingCoordinator.createBooking(userId, bookingDTO.ticketId());
-        return ResponseEntity.ok(booking);
+    @PostMapping("/batch")
+    public ResponseEntity<List<BookingSummaryDTO>> createBookings(
+            @Valid @RequestBody BookingBatchCreateRequestDTO bookingsDTO,
+            @RequestHeader(value = ADMISSION_TOKEN_HEADER, required = false) String admissionToken,
+            UUID userId
+    ) {
+        admissionService.checkAdmission(userId, bookingsDTO.ticketIds(), admissionToken);
+        try {
+            List<BookingSummaryDTO> bookings = bookingCoordinator.createBookings(userId, bookingsDTO.ticketIds());
+            return ResponseEntity.ok(bookings);
+        } catch (RuntimeException e) {
+            admissionService.releaseAdmission(admissionToken);
+            throw e;
+        }
     }
 
 
@@ -60,9 +96,19 @@ public ResponseEntity<BookingSummaryDTO> completeBooking(
         return ResponseEntity.ok(booking);
     }
 
+    /**
+     * Newest bookings first; pass the {@code nextCursor} of the previous response to continue.
+     */
     @GetMapping("/my")
-    public ResponseEntity<List<BookingSummaryDTO>> getMyBookings(UUID userId) {
-        List<BookingSummaryDTO> bookings = bookingCoordinator.getUserBookings(userId);
+    public ResponseEntity<CursorPage<BookingSummaryDTO>> getMyBookings(
+            UUID userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 100, message = "Page size cannot exceed 100")
+            int size
+    ) {
+        CursorPage<BookingSummaryDTO> bookings = bookingCoordinator.getUserBookings(userId, cursor, size);
         return ResponseEntity.ok(bookings);
     }
 
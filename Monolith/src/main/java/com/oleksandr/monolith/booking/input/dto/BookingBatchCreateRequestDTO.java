@@ -0,0 +1,19 @@
+package com.oleksandr.monolith.booking.input.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+@Builder
+public record BookingBatchCreateRequestDTO(
+        @NotEmpty(message = "At least one ticket id is required")
+        @Size(max = BookingBatchCreateRequestDTO.MAX_TICKETS,
+              message = "Cannot book more than " + BookingBatchCreateRequestDTO.MAX_TICKETS + " tickets at once")
+        List<@NotNull UUID> ticketIds
+) {
+    public static final int MAX_TICKETS = 10;
+}
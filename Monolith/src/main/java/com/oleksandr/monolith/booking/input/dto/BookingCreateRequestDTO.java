@@ -1,10 +1,11 @@
 package com.oleksandr.monolith.booking.input.dto;
 
+import jakarta.validation.constraints.NotNull;
 import lombok.Builder;
 
 import java.util.UUID;
 
 @Builder
 public record BookingCreateRequestDTO(
-         UUID ticketId
+         @NotNull UUID ticketId
 ) { }
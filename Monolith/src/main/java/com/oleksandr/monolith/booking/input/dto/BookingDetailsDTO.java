@@ -2,6 +2,7 @@
 
 import com.oleksandr.common.dto.TicketDTO;
 import com.oleksandr.common.enums.BOOKING_STATUS;
+import com.oleksandr.common.enums.TICKET_STATUS;
 import com.oleksandr.monolith.user.output.dto.UserSummaryDTO;
 import lombok.Builder;
 
@@ -16,4 +17,17 @@ public record BookingDetailsDTO (
         BOOKING_STATUS status,
         LocalDateTime createdAt,
         Long version
-) { }
+) {
+
+    // Flat row of BookingRepository#findDetailsById
+    public BookingDetailsDTO(UUID id, BOOKING_STATUS status, LocalDateTime createdAt, Long version,
+                             UUID userId, String username, String email,
+                             String firstName, String lastName, String phoneNumber,
+                             UUID ticketId, UUID eventId, String type, double price, String place,
+                             TICKET_STATUS ticketStatus) {
+        this(id,
+                new UserSummaryDTO(userId, username, email, firstName, lastName, phoneNumber),
+                new TicketDTO(ticketId, eventId, type, price, place, ticketStatus),
+                status, createdAt, version);
+    }
+}
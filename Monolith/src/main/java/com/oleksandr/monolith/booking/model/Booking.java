@@ -1,6 +1,7 @@
 package com.oleksandr.monolith.booking.model;
 
 import com.oleksandr.common.enums.BOOKING_STATUS;
+import com.oleksandr.common.id.GeneratedUuidV7;
 import com.oleksandr.monolith.ticket.model.Ticket;
 import com.oleksandr.monolith.user.model.User;
 import jakarta.persistence.*;
@@ -19,7 +20,7 @@
 public class Booking {
 
     @Id
-    @GeneratedValue(generator = "UUID")
+    @GeneratedUuidV7
     private UUID id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,12 +1,18 @@
 package com.oleksandr.monolith.booking.repository;
 
 import com.oleksandr.common.enums.BOOKING_STATUS;
+import com.oleksandr.monolith.booking.expiry.BookingHoldView;
+import com.oleksandr.monolith.booking.input.dto.BookingDetailsDTO;
+import com.oleksandr.monolith.booking.input.dto.BookingSummaryDTO;
 import com.oleksandr.monolith.booking.model.Booking;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,13 +20,27 @@
 public interface BookingRepository extends JpaRepository<Booking, UUID> {
 
     List<Booking> findAllByUserId(UUID userId);
-    
-    @Query("SELECT b FROM Booking b " +
-           "JOIN FETCH b.ticket t " +
-           "JOIN FETCH t.event " +
-           "JOIN FETCH b.user " +
-           "WHERE b.user.id = :userId")
-    List<Booking> findAllByUserIdWithDetails(@Param("userId") UUID userId);
+
+    // Booking, user and ticket in one statement; the event id is read from the ticket's foreign key
+    @Query("SELECT new com.oleksandr.monolith.booking.input.dto.BookingDetailsDTO(" +
+           "b.id, b.status, b.createdAt, b.version, " +
+           "u.id, u.username, u.email, u.firstName, u.lastName, u.phoneNumber, " +
+           "t.id, t.event.id, t.type, t.price, t.place, t.status) " +
+           "FROM Booking b JOIN b.user u JOIN b.ticket t WHERE b.id = :id")
+    Optional<BookingDetailsDTO> findDetailsById(@Param("id") UUID id);
+
+    // Keyset pages over (createdAt, id), newest first. Backed by idx_bookings_user_created_at_id.
+    String USER_SUMMARY = "SELECT new com.oleksandr.monolith.booking.input.dto.BookingSummaryDTO(" +
+            "b.id, b.ticket.id, b.user.id, b.status, b.createdAt) FROM Booking b WHERE b.user.id = :userId ";
+
+    @Query(USER_SUMMARY + "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingSummaryDTO> findUserSummaries(@Param("userId") UUID userId, Limit limit);
+
+    @Query(USER_SUMMARY + "AND b.createdAt <= :createdAt AND (b.createdAt < :createdAt OR b.id < :id) " +
+           "ORDER BY b.createdAt DESC, b.id DESC")
+    List<BookingSummaryDTO> findUserSummariesBefore(@Param("userId") UUID userId,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") UUID id, Limit limit);
 
     Optional<Booking> findByUserIdAndTicketId(UUID id, UUID id1);
 
@@ -30,8 +50,51 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
     @Query("SELECT b FROM Booking b WHERE b.ticket.id = :ticketId AND b.status != 'CANCELLED'")
     Optional<Booking> findActiveBookingByTicketId(@Param("ticketId") UUID ticketId);
 
+    @Query("SELECT b.ticket.id FROM Booking b WHERE b.ticket.id IN :ticketIds AND b.status != 'CANCELLED'")
+    List<UUID> findTicketIdsWithActiveBooking(@Param("ticketIds") Collection<UUID> ticketIds);
+
 
     List<Booking> findByStatusAndCreatedAtBefore(BOOKING_STATUS status, LocalDateTime dateTime);
 
     long countByStatus(BOOKING_STATUS status);
+
+    long countByStatusAndCreatedAtBefore(BOOKING_STATUS status, LocalDateTime dateTime);
+
+    long countByStatusInAndCreatedAtBefore(Collection<BOOKING_STATUS> statuses, LocalDateTime dateTime);
+
+    @Query("SELECT b.status, COUNT(b) FROM Booking b WHERE b.status IN :statuses GROUP BY b.status")
+    List<Object[]> countGroupedByStatusIn(@Param("statuses") Collection<BOOKING_STATUS> statuses);
+
+    List<BookingHoldView> findByStatusIn(Collection<BOOKING_STATUS> statuses);
+
+    // Cancels the given holds if they are still open and past the cutoff; rows held by a
+    // concurrent payment or cancel are skipped and left to the sweep. Returns [booking id, ticket id].
+    @Query(value = "WITH expired AS (" +
+                   "    SELECT id FROM bookings " +
+                   "    WHERE id IN (:bookingIds) AND status IN ('CREATED', 'WAITING_FOR_PAYMENT') AND created_at <= :cutoff " +
+                   "    FOR UPDATE SKIP LOCKED) " +
+                   "UPDATE bookings b SET status = 'CANCELLED', version = b.version + 1 " +
+                   "FROM expired WHERE b.id = expired.id " +
+                   "RETURNING b.id, b.ticket_id",
+           nativeQuery = true)
+    List<Object[]> expireHolds(@Param("bookingIds") Collection<UUID> bookingIds,
+                               @Param("cutoff") LocalDateTime cutoff);
+
+    @Query(value = "WITH expired AS (" +
+                   "    SELECT id FROM bookings " +
+                   "    WHERE status IN ('CREATED', 'WAITING_FOR_PAYMENT') AND created_at <= :cutoff " +
+                   "    ORDER BY created_at LIMIT :limit " +
+                   "    FOR UPDATE SKIP LOCKED) " +
+                   "UPDATE bookings b SET status = 'CANCELLED', version = b.version + 1 " +
+                   "FROM expired WHERE b.id = expired.id " +
+                   "RETURNING b.id, b.ticket_id",
+           nativeQuery = true)
+    List<Object[]> expireOverdueHolds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Booking b SET b.status = :to, b.version = b.version + 1 " +
+           "WHERE b.id = :bookingId AND b.status IN :from")
+    int compareAndSetStatus(@Param("bookingId") UUID bookingId,
+                            @Param("from") Collection<BOOKING_STATUS> from,
+                            @Param("to") BOOKING_STATUS to);
 }
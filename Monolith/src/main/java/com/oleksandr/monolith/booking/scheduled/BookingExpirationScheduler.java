@@ -1,78 +1,58 @@
 package com.oleksandr.monolith.booking.scheduled;
 
 import com.oleksandr.common.enums.BOOKING_STATUS;
-import com.oleksandr.monolith.booking.model.Booking;
+import com.oleksandr.monolith.booking.expiry.BookingExpiryService;
+import com.oleksandr.monolith.booking.expiry.BookingHoldExpiry;
 import com.oleksandr.monolith.booking.repository.BookingRepository;
-import com.oleksandr.monolith.coordinator.BookingCoordinator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 
+/**
+ * Reconciliation sweep behind {@link BookingHoldExpiry}: catches holds the timing wheel missed,
+ * e.g. ones created on another instance or whose release failed.
+ */
 @Slf4j
 @Component
 public class BookingExpirationScheduler {
 
     private final BookingRepository bookingRepository;
-    private final BookingCoordinator bookingCoordinator;
+    private final BookingExpiryService bookingExpiryService;
+    private final BookingHoldExpiry bookingHoldExpiry;
 
-    private static final int PAYMENT_TIMEOUT_MINUTES = 15;
+    @Value("${booking.hold.chunk-size:500}")
+    private int chunkSize;
 
     public BookingExpirationScheduler(
             BookingRepository bookingRepository,
-            BookingCoordinator bookingCoordinator) {
+            BookingExpiryService bookingExpiryService,
+            BookingHoldExpiry bookingHoldExpiry) {
         this.bookingRepository = bookingRepository;
-        this.bookingCoordinator = bookingCoordinator;
+        this.bookingExpiryService = bookingExpiryService;
+        this.bookingHoldExpiry = bookingHoldExpiry;
     }
 
-    @Scheduled(fixedDelay = 300000)
-    @Transactional
+    @Scheduled(fixedDelayString = "${booking.hold.sweep-delay:300000}")
     public void cancelExpiredBookings() {
-        log.debug("⏰ Starting scheduled task: checking for expired bookings...");
+        log.debug("⏰ Starting scheduled task: sweeping for overdue booking holds...");
 
         try {
-            LocalDateTime expirationTime = LocalDateTime.now().minusMinutes(PAYMENT_TIMEOUT_MINUTES);
-
-            log.debug("🔍 Looking for bookings with status WAITING_FOR_PAYMENT created before: {}", 
-                expirationTime);
-
-            List<Booking> expiredBookings = bookingRepository
-                .findByStatusAndCreatedAtBefore(BOOKING_STATUS.WAITING_FOR_PAYMENT, expirationTime);
-
-            if (expiredBookings.isEmpty()) {
-                log.debug("✅ No expired bookings found");
+            LocalDateTime cutoff = bookingHoldExpiry.cutoff();
+            int total = 0;
+            int expired;
+            do {
+                expired = bookingExpiryService.expireOverdue(cutoff, chunkSize);
+                total += expired;
+            } while (expired == chunkSize);
+
+            if (total == 0) {
+                log.debug("✅ No overdue booking holds found");
                 return;
             }
-
-            log.warn("⚠️ Found {} expired booking(s) that need to be canceled", expiredBookings.size());
-
-            int successCount = 0;
-            int failCount = 0;
-
-            for (Booking booking : expiredBookings) {
-                try {
-                    log.info("🚫 Auto-canceling expired booking: {} (created at: {}, age: {} minutes)",
-                        booking.getId(),
-                        booking.getCreatedAt(),
-                        java.time.Duration.between(booking.getCreatedAt(), LocalDateTime.now()).toMinutes()
-                    );
-                    bookingCoordinator.cancelBooking(booking.getId(), booking.getUser().getId());
-
-                    successCount++;
-                    log.info("✅ Successfully auto-canceled booking: {}", booking.getId());
-
-                } catch (Exception e) {
-                    failCount++;
-                    log.error("❌ Failed to auto-cancel booking {}: {}", 
-                        booking.getId(), e.getMessage(), e);
-                }
-            }
-
-            log.info("📊 Expiration task completed: {} canceled, {} failed, {} total",
-                successCount, failCount, expiredBookings.size());
+            log.warn("⚠️ Sweep expired {} booking hold(s) created before {}", total, cutoff);
 
         } catch (Exception e) {
             log.error("❌ Error in booking expiration scheduler", e);
@@ -82,17 +62,13 @@ public void cancelExpiredBookings() {
     @Scheduled(fixedDelay = 3600000)
     public void logExpirationStatistics() {
         try {
-            LocalDateTime last24Hours = LocalDateTime.now().minusHours(24);
-            
             long waitingCount = bookingRepository.countByStatus(BOOKING_STATUS.WAITING_FOR_PAYMENT);
             long oldWaitingCount = bookingRepository
-                .findByStatusAndCreatedAtBefore(BOOKING_STATUS.WAITING_FOR_PAYMENT, 
-                    LocalDateTime.now().minusMinutes(PAYMENT_TIMEOUT_MINUTES))
-                .size();
+                .countByStatusAndCreatedAtBefore(BOOKING_STATUS.WAITING_FOR_PAYMENT, bookingHoldExpiry.cutoff());
 
             log.info("📊 Booking Expiration Statistics:");
             log.info("   - Currently WAITING_FOR_PAYMENT: {}", waitingCount);
-            log.info("   - Overdue (>15 min): {}", oldWaitingCount);
+            log.info("   - Overdue (>{} min): {}", bookingHoldExpiry.holdTimeout().toMinutes(), oldWaitingCount);
 
         } catch (Exception e) {
             log.error("❌ Error generating expiration statistics", e);
@@ -1,5 +1,8 @@
 package com.oleksandr.monolith.booking.service.api;
 
+import com.oleksandr.common.dto.CursorPage;
+import com.oleksandr.monolith.booking.input.dto.BookingDetailsDTO;
+import com.oleksandr.monolith.booking.input.dto.BookingSummaryDTO;
 import com.oleksandr.monolith.booking.model.Booking;
 import com.oleksandr.monolith.ticket.model.Ticket;
 import com.oleksandr.monolith.user.model.User;
@@ -14,15 +17,24 @@ public interface BookingService {
     @Transactional
     Booking createBooking(User user, Ticket ticket);
 
+    @Transactional
+    List<Booking> createBookings(User user, List<Ticket> tickets);
+
     @Transactional
     Booking cancelBooking(Booking booking);
 
     @Transactional
     Booking completeBooking(Booking booking);
 
+    @Transactional
+    Booking startPayment(Booking booking);
+
     @Transactional(readOnly = true)
     Booking findById(UUID bookingId);
 
     @Transactional(readOnly = true)
-    List<Booking> getBookingsByUser(UUID userId);
+    BookingDetailsDTO getBookingDetails(UUID bookingId);
+
+    @Transactional(readOnly = true)
+    CursorPage<BookingSummaryDTO> getBookingsByUser(UUID userId, String cursor, int size);
 }
@@ -1,30 +1,47 @@
 package com.oleksandr.monolith.booking.service.impl;
 
+import com.oleksandr.common.dto.CursorPage;
 import com.oleksandr.common.enums.BOOKING_STATUS;
 import com.oleksandr.common.enums.TICKET_STATUS;
+import com.oleksandr.common.pagination.BookingCursor;
+import com.oleksandr.monolith.booking.input.dto.BookingDetailsDTO;
+import com.oleksandr.monolith.booking.input.dto.BookingSummaryDTO;
 import com.oleksandr.monolith.booking.model.Booking;
 import com.oleksandr.monolith.booking.repository.BookingRepository;
 import com.oleksandr.monolith.booking.service.api.BookingService;
 import com.oleksandr.monolith.common.exceptions.BookingConflictException;
 import com.oleksandr.monolith.common.exceptions.ResourceNotFoundException;
+import com.oleksandr.monolith.metrics.BookingMetrics;
 import com.oleksandr.monolith.ticket.model.Ticket;
 import com.oleksandr.monolith.user.model.User;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
 @Service
 public class BookingServiceImpl implements BookingService {
 
+    private static final Set<BOOKING_STATUS> OPEN_STATUSES =
+            EnumSet.of(BOOKING_STATUS.CREATED, BOOKING_STATUS.WAITING_FOR_PAYMENT, BOOKING_STATUS.EXPIRED);
+
     private final BookingRepository bookingRepository;
+    private final EntityManager entityManager;
+    private final BookingMetrics bookingMetrics;
 
-    public BookingServiceImpl(BookingRepository bookingRepository) {
+    public BookingServiceImpl(BookingRepository bookingRepository, EntityManager entityManager,
+                              BookingMetrics bookingMetrics) {
         this.bookingRepository = bookingRepository;
+        this.entityManager = entityManager;
+        this.bookingMetrics = bookingMetrics;
     }
 
 
@@ -42,6 +59,7 @@ public Booking createBooking(User user, Ticket ticket) {
                 .ifPresent(b -> {
                     log.warn("Active booking conflict detected for ticket: ticketId={}, existingBookingId={}, existingUserId={}, status={}", 
                             ticket.getId(), b.getId(), b.getUser().getId(), b.getStatus());
+                    bookingMetrics.conflict("booking_active");
                     throw new BookingConflictException("Ticket is already booked by another user: " + ticket.getId());
                 });
 
@@ -53,32 +71,89 @@ public Booking createBooking(User user, Ticket ticket) {
         return bookingRepository.saveAndFlush(booking);
     }
 
+    /**
+     * Inserts one booking per ticket in a single flush, so Hibernate can send them as one JDBC batch.
+     * Tickets are expected to be reserved by the caller in the same transaction.
+     */
+    @Transactional
+    @Override
+    public List<Booking> createBookings(User user, List<Ticket> tickets) {
+        log.info("Creating {} booking entities for userId={}", tickets.size(), user.getId());
+
+        List<UUID> ticketIds = tickets.stream().map(Ticket::getId).toList();
+        List<UUID> alreadyBooked = bookingRepository.findTicketIdsWithActiveBooking(ticketIds);
+        if (!alreadyBooked.isEmpty()) {
+            log.warn("Active booking conflict detected for tickets: {}", alreadyBooked);
+            bookingMetrics.conflict("booking_active");
+            throw new BookingConflictException("Tickets are already booked by another user: " + alreadyBooked);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Booking> bookings = tickets.stream()
+                .map(ticket -> {
+                    Booking booking = new Booking();
+                    booking.setUser(user);
+                    booking.setTicket(ticket);
+                    booking.setStatus(BOOKING_STATUS.CREATED);
+                    booking.setCreatedAt(now);
+                    return booking;
+                })
+                .toList();
+        List<Booking> saved = bookingRepository.saveAll(bookings);
+        bookingRepository.flush();
+        return saved;
+    }
+
     @Transactional
     @Override
     public Booking cancelBooking(Booking booking) {
         log.info("Cancelling booking entity with id={}", booking.getId());
-        if (booking.getStatus() == BOOKING_STATUS.CANCELLED) {
-            log.info("Booking {} is already cancelled", booking.getId());
-            return booking;
+        int updated = bookingRepository.compareAndSetStatus(booking.getId(), OPEN_STATUSES, BOOKING_STATUS.CANCELLED);
+        currentState(booking);
+        if (updated == 0) {
+            if (booking.getStatus() == BOOKING_STATUS.CANCELLED) {
+                log.info("Booking {} is already cancelled", booking.getId());
+                return booking;
+            }
+            log.warn("Attempted to cancel a booking in status {}: bookingId={}", booking.getStatus(), booking.getId());
+            bookingMetrics.conflict("booking_cas");
+            throw new BookingConflictException("Cannot cancel booking in status " + booking.getStatus() + ": " + booking.getId());
         }
-        booking.setStatus(BOOKING_STATUS.CANCELLED);
-        return bookingRepository.saveAndFlush(booking);
+        return booking;
     }
 
     @Transactional
     @Override
     public Booking completeBooking(Booking booking) {
         log.info("Completing booking entity with id={}", booking.getId());
-        if (booking.getStatus() == BOOKING_STATUS.PAID) {
-            log.info("Booking {} already marked as PAID", booking.getId());
-            return booking;
-        }
-        if (booking.getStatus() == BOOKING_STATUS.CANCELLED) {
+        int updated = bookingRepository.compareAndSetStatus(booking.getId(), OPEN_STATUSES, BOOKING_STATUS.PAID);
+        currentState(booking);
+        if (updated == 0) {
+            if (booking.getStatus() == BOOKING_STATUS.PAID) {
+                log.info("Booking {} already marked as PAID", booking.getId());
+                return booking;
+            }
             log.warn("Attempted to complete a cancelled booking: bookingId={}", booking.getId());
+            bookingMetrics.conflict("booking_cas");
             throw new IllegalStateException("Cannot complete a cancelled booking: " + booking.getId());
         }
-        booking.setStatus(BOOKING_STATUS.PAID);
-        return bookingRepository.saveAndFlush(booking);
+        return booking;
+    }
+
+    @Transactional
+    @Override
+    public Booking startPayment(Booking booking) {
+        log.info("Moving booking entity with id={} to WAITING_FOR_PAYMENT", booking.getId());
+        int updated = bookingRepository.compareAndSetStatus(booking.getId(),
+                EnumSet.of(BOOKING_STATUS.CREATED, BOOKING_STATUS.WAITING_FOR_PAYMENT),
+                BOOKING_STATUS.WAITING_FOR_PAYMENT);
+        currentState(booking);
+        if (updated == 0) {
+            log.warn("Cannot start payment for booking in status {}: bookingId={}", booking.getStatus(), booking.getId());
+            bookingMetrics.conflict("booking_cas");
+            throw new BookingConflictException("Cannot pay for booking in status " + booking.getStatus() + ": " + booking.getId());
+        }
+        return booking;
     }
 
     @Transactional(readOnly = true)
@@ -90,7 +165,41 @@ public Booking findById(UUID bookingId) {
 
     @Transactional(readOnly = true)
     @Override
-    public List<Booking> getBookingsByUser(UUID userId) {
-        return bookingRepository.findAllByUserIdWithDetails(userId);
+    public BookingDetailsDTO getBookingDetails(UUID bookingId) {
+        return bookingRepository.findDetailsById(bookingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking not found: " + bookingId));
+    }
+
+    /**
+     * Seeks past the cursor on (createdAt, id), newest bookings first.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<BookingSummaryDTO> getBookingsByUser(UUID userId, String cursor, int size) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("Page size must be between 1 and 100");
+        }
+        BookingCursor before = BookingCursor.decode(cursor);
+
+        // one extra row tells whether there is a next page
+        List<BookingSummaryDTO> bookings = before == null
+                ? bookingRepository.findUserSummaries(userId, Limit.of(size + 1))
+                : bookingRepository.findUserSummariesBefore(userId, before.createdAt(), before.id(), Limit.of(size + 1));
+
+        boolean hasNext = bookings.size() > size;
+        List<BookingSummaryDTO> slice = hasNext ? bookings.subList(0, size) : bookings;
+        BookingSummaryDTO last = slice.isEmpty() ? null : slice.get(slice.size() - 1);
+        String nextCursor = hasNext ? new BookingCursor(last.createdAt(), last.id()).encode() : null;
+
+        log.debug("Retrieved {} bookings of userId={} before cursor={}, hasNext={}", slice.size(), userId, cursor, hasNext);
+        return new CursorPage<>(List.copyOf(slice), nextCursor);
+    }
+
+    // Status transitions are bulk updates, so the managed instance is re-read to pick up
+    // the new status and version instead of being flushed over the top of them.
+    private void currentState(Booking booking) {
+        if (entityManager.contains(booking)) {
+            entityManager.refresh(booking);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,28 +1,71 @@
 package com.oleksandr.monolith.common;
 
+import com.oleksandr.common.constants.CommonConstants;
 import com.oleksandr.monolith.blacklist.BlacklistService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.UUID;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtUtil {
     
     private final BlacklistService blacklistService;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     @Value("${jwt.secret}")
     private String jwtSecret;
 
-    private SecretKey getKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8));
+    // The key and parser are immutable and thread-safe, built once on first use
+    private volatile JwtParser parser;
+
+    private JwtParser parser() {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts.parserBuilder()
+                    .setSigningKey(Keys.hmacShaKeyFor(jwtSecret.getBytes(StandardCharsets.UTF_8)))
+                    .build();
+            parser = current;
+        }
+        return current;
+    }
+
+    /**
+     * User id of a valid, non-revoked token, or null. Repeated tokens are answered from
+     * {@link VerifiedTokenCache}; a new one is checked against the blacklist and parsed once.
+     * The per-user revocation epoch is compared on every call, cached or not.
+     */
+    public UUID authenticate(String token) {
+        try {
+            VerifiedTokenCache.Principal cached = verifiedTokenCache.get(token);
+            if (cached != null) {
+                return blacklistService.isRevoked(cached.userId(), cached.issuedAt()) ? null : cached.userId();
+            }
+
+            if (blacklistService.isBlacklisted(token)) {
+                return null;
+            }
+            Claims claims = extractAllClaims(token);
+            UUID userId = UUID.fromString(claims.getSubject());
+            long issuedAt = issuedAt(claims);
+            if (blacklistService.isRevoked(userId, issuedAt)) {
+                return null;
+            }
+            verifiedTokenCache.put(token, userId, issuedAt, claims.getExpiration());
+            return userId;
+        } catch (Exception e) {
+            log.debug("Rejected token: {}", e.getMessage());
+            return null;
+        }
     }
 
     public UUID extractUserId(String token) {
@@ -44,17 +87,23 @@ public boolean isTokenValid(String token) {
                 return false;
             }
 
-            extractAllClaims(token);
-            return true;
+            Claims claims = extractAllClaims(token);
+            return !blacklistService.isRevoked(UUID.fromString(claims.getSubject()), issuedAt(claims));
         } catch (Exception e) {
             return false;
         }
     }
 
+    // Epoch millis from iat_ms; older tokens fall back to the start of their iat second, without iat to 0
+    private static long issuedAt(Claims claims) {
+        if (claims.get(CommonConstants.ISSUED_AT_MILLIS_CLAIM) instanceof Number millis) {
+            return millis.longValue();
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().getTime() : 0;
+    }
+
     private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getKey())
-                .build()
+        return parser()
                 .parseClaimsJws(token)
                 .getBody();
     }
@@ -66,4 +115,4 @@ public String extractTokenFromHeader(String authHeader) {
         }
         return null;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,72 @@
+package com.oleksandr.monolith.common;
+
+import com.oleksandr.common.token.TokenDigest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Principals of tokens that already passed signature and blacklist checks, keyed by the
+ * SHA-256 of the token so raw bearer tokens are not kept in memory. An entry lives until the
+ * token expires, and at most {@code jwt.cache.ttl-seconds}, so a token blacklisted on another
+ * instance stops working here within that time.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<String, Principal> principals = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long ttlMillis;
+
+    public VerifiedTokenCache(@Value("${jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${jwt.cache.ttl-seconds:60}") long ttlSeconds) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Principal of a cached token, or null when the token is unknown or its entry expired.
+     */
+    public Principal get(String token) {
+        String key = TokenDigest.sha256Hex(token);
+        Principal principal = principals.get(key);
+        if (principal == null) return null;
+        if (principal.expiresAt() <= System.currentTimeMillis()) {
+            principals.remove(key, principal);
+            return null;
+        }
+        return principal;
+    }
+
+    public void put(String token, UUID userId, long issuedAt, Date expiration) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlMillis;
+        if (expiration != null) expiresAt = Math.min(expiresAt, expiration.getTime());
+        if (expiresAt <= now) return;
+
+        if (principals.size() >= maxSize) {
+            principals.values().removeIf(p -> p.expiresAt() <= now);
+            // Still full: leave the token uncached rather than churn live entries
+            if (principals.size() >= maxSize) return;
+        }
+        principals.put(TokenDigest.sha256Hex(token), new Principal(userId, issuedAt, expiresAt));
+    }
+
+    public void evict(String token) {
+        evict(TokenDigest.sha256(token));
+    }
+
+    public void evict(byte[] digest) {
+        principals.remove(TokenDigest.hex(digest));
+    }
+
+    /**
+     * @param issuedAt the token's issue time in epoch milliseconds, checked against per-user revocations
+     */
+    public record Principal(UUID userId, long issuedAt, long expiresAt) {
+    }
+}
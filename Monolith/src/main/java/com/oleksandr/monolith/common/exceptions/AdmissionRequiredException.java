@@ -0,0 +1,7 @@
+package com.oleksandr.monolith.common.exceptions;
+
+public class AdmissionRequiredException extends RuntimeException {
+    public AdmissionRequiredException(String message) {
+        super(message);
+    }
+}
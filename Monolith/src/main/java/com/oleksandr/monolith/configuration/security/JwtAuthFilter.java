@@ -28,9 +28,8 @@ protected void doFilterInternal(HttpServletRequest request,
         String authHeader = request.getHeader("Authorization");
         String token = jwtUtil.extractTokenFromHeader(authHeader);
 
-        if (token != null && jwtUtil.isTokenValid(token)) {
-            UUID userId = jwtUtil.extractUserId(token);
-
+        UUID userId = token != null ? jwtUtil.authenticate(token) : null;
+        if (userId != null) {
             JwtAuthenticationToken authentication =
                     new JwtAuthenticationToken(userId, token);
 
@@ -1,28 +1,27 @@
 package com.oleksandr.monolith.coordinator;
 
-import com.oleksandr.common.dto.TicketDTO;
+import com.oleksandr.common.dto.CursorPage;
 import com.oleksandr.common.enums.BOOKING_STATUS;
 import com.oleksandr.common.enums.TICKET_STATUS;
 import com.oleksandr.common.notification.NotificationRequest;
+import com.oleksandr.monolith.booking.expiry.BookingHoldExpiry;
 import com.oleksandr.monolith.booking.input.dto.BookingDetailsDTO;
 import com.oleksandr.monolith.booking.input.dto.BookingSummaryDTO;
 import com.oleksandr.monolith.booking.mapper.BookingMapper;
 import com.oleksandr.monolith.booking.model.Booking;
 import com.oleksandr.monolith.booking.service.api.BookingService;
 import com.oleksandr.monolith.common.exceptions.BookingAccessDeniedException;
-import com.oleksandr.monolith.integration.wrapper.reservationIntegration.ReserveService;
+import com.oleksandr.monolith.integration.wrapper.reservationIntegration.ReservationRequestDto;
 import com.oleksandr.monolith.kafka.EmailMapper;
-import com.oleksandr.monolith.kafka.KafkaProducer;
+import com.oleksandr.monolith.metrics.BookingMetrics;
+import com.oleksandr.monolith.outbox.service.OutboxService;
 import com.oleksandr.monolith.payU.client.PayUClient;
 import com.oleksandr.monolith.payU.input.dto.PayUAuthResponseDTO;
 import com.oleksandr.monolith.payU.input.dto.PayUOrderResponseDTO;
 import com.oleksandr.monolith.payU.output.PayUOrderRequestDTO;
 import com.oleksandr.monolith.ticket.Service.api.TicketService;
-import com.oleksandr.monolith.ticket.mapper.TicketMapper;
 import com.oleksandr.monolith.user.Service.api.UserService;
-import com.oleksandr.monolith.user.mapper.UserMapper;
 import com.oleksandr.monolith.user.model.User;
-import com.oleksandr.monolith.user.output.dto.UserSummaryDTO;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -40,19 +39,18 @@ public class BookingCoordinator {
     private final UserService userService;
     private final TicketService ticketService;
     private final BookingService bookingService;
+    private final BookingHoldExpiry bookingHoldExpiry;
 
-    private final ReserveService reserveService;
+    private final OutboxService outboxService;
+    private final BookingMetrics bookingMetrics;
 
 
     private final BookingMapper bookingMapper;
-    private final UserMapper userMapper;
-    private final TicketMapper ticketMapper;
 
     private final PayUClient payUClient;
 
     //kafka
     private final EmailMapper emailMapper;
-    private final KafkaProducer kafkaProducer;
 
     @Value("${payu.notify.base.url}")
     private String notifyBaseUrl;
@@ -65,14 +63,29 @@ public class BookingCoordinator {
 
     @Transactional
     public BookingSummaryDTO createBooking(UUID userId, UUID ticketId) {
-        var user = userService.getOrCreateUser(userId);
-        var ticket = ticketService.reserveTicket(ticketId);
-        var booking = bookingService.createBooking(user, ticket);
+        var user = bookingMetrics.time(BookingMetrics.USER_PROVISIONING, () -> userService.getOrCreateUser(userId));
+        var ticket = bookingMetrics.time(BookingMetrics.TICKET_RESERVATION, () -> ticketService.reserveTicket(ticketId));
+        var booking = bookingMetrics.time(BookingMetrics.BOOKING_INSERT, () -> bookingService.createBooking(user, ticket));
+        bookingHoldExpiry.schedule(booking);
 
-        reserveService.sendBookingCreation(ticketId, booking.getId());
+        outboxService.reservationCreated(ticketId, booking.getId());
         return bookingMapper.mapToSummaryDto(booking);
     }
 
+    @Transactional
+    public List<BookingSummaryDTO> createBookings(UUID userId, List<UUID> ticketIds) {
+        List<UUID> distinctIds = ticketIds.stream().distinct().toList();
+        var user = bookingMetrics.time(BookingMetrics.USER_PROVISIONING, () -> userService.getOrCreateUser(userId));
+        var tickets = bookingMetrics.time(BookingMetrics.TICKET_RESERVATION, () -> ticketService.reserveTickets(distinctIds));
+        var bookings = bookingMetrics.time(BookingMetrics.BOOKING_INSERT, () -> bookingService.createBookings(user, tickets));
+        bookings.forEach(bookingHoldExpiry::schedule);
+
+        outboxService.reservationsCreated(bookings.stream()
+                .map(b -> new ReservationRequestDto(b.getTicket().getId(), b.getId()))
+                .toList());
+        return bookingMapper.mapListToSummaryListDto(bookings);
+    }
+
     @Transactional
     public BookingSummaryDTO cancelBooking(UUID bookingId, UUID userId) {
         var booking = bookingService.findById(bookingId);
@@ -91,7 +104,7 @@ public BookingSummaryDTO cancelBooking(UUID bookingId, UUID userId) {
         ticketService.markAvailable(booking.getTicket());
         var cancelled = bookingService.cancelBooking(booking);
 
-        reserveService.sendBookingCancel(booking.getTicket().getId(), booking.getId());
+        outboxService.reservationCancelled(booking.getTicket().getId(), booking.getId());
         return bookingMapper.mapToSummaryDto(cancelled);
     }
 
@@ -106,37 +119,21 @@ public BookingSummaryDTO completeBooking(UUID bookingId, UUID userId) {
         ticketService.markSold(booking.getTicket());
         var completed = bookingService.completeBooking(booking);
 
-        reserveService.sendBookingComplete(booking.getTicket().getId(), booking.getId());
+        outboxService.reservationConfirmed(booking.getTicket().getId(), booking.getId());
 
         NotificationRequest request = emailMapper.buildPurchaseConfirmMail(completed);
-        kafkaProducer.sendMessage(request);
+        outboxService.mailNotification(request);
 
         return bookingMapper.mapToSummaryDto(completed);
     }
 
     public BookingDetailsDTO getBookingDetails(UUID id) {
-        var booking = bookingService.findById(id);
-        var user = userService.getOrCreateUser(booking.getUser().getId());
-        var ticket = booking.getTicket();
-
-        UserSummaryDTO userSummaryDTO = userMapper.mapToSummaryDto(user);
-        TicketDTO ticketDTO = ticketMapper.mapToDto(ticket);
-
-        return BookingDetailsDTO
-                .builder()
-                .id(booking.getId())
-                .user(userSummaryDTO)
-                .ticket(ticketDTO)
-                .status(booking.getStatus())
-                .createdAt(booking.getCreatedAt())
-                .version(booking.getVersion())
-                .build();
+        return bookingService.getBookingDetails(id);
     }
 
 
-    public List<BookingSummaryDTO> getUserBookings(UUID userID) {
-        List<Booking> bookingsList = bookingService.getBookingsByUser(userID);
-        return bookingMapper.mapListToSummaryListDto(bookingsList);
+    public CursorPage<BookingSummaryDTO> getUserBookings(UUID userID, String cursor, int size) {
+        return bookingService.getBookingsByUser(userID, cursor, size);
     }
 
     @Transactional
@@ -151,7 +148,8 @@ public String initiatePayment(UUID bookingId, UUID userId, String customerIp) {
             log.warn("Access denied for user {} trying to pay for booking {}", userId, bookingId);
             throw new BookingAccessDeniedException("User is not authorized to pay for this booking");
         }
-        booking.setStatus(BOOKING_STATUS.WAITING_FOR_PAYMENT);
+        bookingService.startPayment(booking);
+        bookingHoldExpiry.schedule(booking);
         PayUAuthResponseDTO authToken = payUClient.getAccessToken();
 
         log.info("Successfully got PayU token");
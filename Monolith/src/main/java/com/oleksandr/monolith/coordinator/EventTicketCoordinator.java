@@ -2,16 +2,22 @@
 
 import com.oleksandr.common.dto.EventDTO;
 import com.oleksandr.common.dto.TicketDTO;
+import com.oleksandr.common.enums.TICKET_STATUS;
 import com.oleksandr.monolith.event.mapper.EventMapper;
 import com.oleksandr.monolith.event.model.Event;
+import com.oleksandr.monolith.event.output.dto.SeatMapDTO;
 import com.oleksandr.monolith.event.service.api.EventService;
 import com.oleksandr.monolith.ticket.Service.api.TicketService;
+import com.oleksandr.monolith.ticket.inventory.SeatMap;
+import com.oleksandr.monolith.ticket.inventory.TicketInventory;
 import com.oleksandr.monolith.ticket.mapper.TicketMapper;
 import com.oleksandr.monolith.ticket.model.Ticket;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -20,17 +26,22 @@
 @Service
 public class EventTicketCoordinator {
 
+    private static final List<String> SEAT_STATUSES = Arrays.stream(TICKET_STATUS.values()).map(Enum::name).toList();
+
     private final EventService eventService;
     private final TicketService ticketService;
     private final EventMapper eventMapper;
     private final TicketMapper ticketMapper;
+    private final TicketInventory ticketInventory;
 
     public EventTicketCoordinator(EventService eventService, TicketService ticketService,
-                                  EventMapper eventMapper, TicketMapper ticketMapper) {
+                                  EventMapper eventMapper, TicketMapper ticketMapper,
+                                  TicketInventory ticketInventory) {
         this.eventService = eventService;
         this.ticketService = ticketService;
         this.eventMapper = eventMapper;
         this.ticketMapper = ticketMapper;
+        this.ticketInventory = ticketInventory;
     }
 
     @Transactional
@@ -84,14 +95,34 @@ public EventDTO updateEventWithTickets(UUID eventId, EventDTO dto) {
         }
 
         Event savedEvent = eventService.saveEventEntity(eventEntity);
+        ticketInventory.evictAfterCommit(eventId);
         return eventMapper.mapToDto(savedEvent);
     }
 
     @Transactional(readOnly = true)
     public List<TicketDTO> getTicketsByEventId(UUID id) {
-        Event event = eventService.findById(id);
-        if (event == null) return new ArrayList<>();
-        List<Ticket> tickets = event.getTickets();
-        return tickets.stream().map(ticketMapper::mapToDto).collect(Collectors.toList());
+        // In seat map order: element i is seat index i
+        List<TicketDTO> tickets = ticketService.getTicketsByEventId(id);
+        if (tickets.isEmpty()) {
+            eventService.findById(id);
+        }
+        return tickets;
+    }
+
+    public SeatMapDTO getSeatMap(UUID eventId, Long sinceVersion) {
+        SeatMap seatMap = ticketInventory.seatMap(eventId, sinceVersion);
+        if (seatMap.seats() == 0) {
+            // don't keep empty inventories around for unknown ids
+            ticketInventory.evict(eventId);
+            eventService.findById(eventId);
+        }
+        return SeatMapDTO.builder()
+                .eventId(eventId)
+                .version(seatMap.version())
+                .seats(seatMap.seats())
+                .delta(seatMap.delta())
+                .statuses(SEAT_STATUSES)
+                .data(Base64.getEncoder().encodeToString(seatMap.data()))
+                .build();
     }
 }
@@ -0,0 +1,80 @@
+package com.oleksandr.monolith.event.catalog;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Global version of the event catalog, bumped whenever events are inserted or changed.
+ * Catalog pages are tagged with it, event details with their {@code Event.version}, which is
+ * remembered per catalog version so unchanged events can be answered with 304 without a query.
+ */
+@Slf4j
+@Component
+public class CatalogVersion {
+
+    // Seeded from the wall clock so tags handed out before a restart don't match again
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis() * 1000);
+    private volatile long lastModified = System.currentTimeMillis();
+
+    private final Map<UUID, long[]> eventVersions = new ConcurrentHashMap<>();
+
+    public long current() {
+        return version.get();
+    }
+
+    public long lastModified() {
+        return lastModified;
+    }
+
+    public void bump() {
+        long bumped = version.incrementAndGet();
+        lastModified = System.currentTimeMillis();
+        eventVersions.clear();
+        log.debug("Event catalog version bumped to {}", bumped);
+    }
+
+    public void bumpAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                bump();
+            }
+        });
+    }
+
+    /**
+     * Remembers the version of an event read while the catalog was at {@code catalogVersion}.
+     */
+    public void remember(UUID eventId, Long eventVersion, long catalogVersion) {
+        if (eventVersion == null || catalogVersion != version.get()) return;
+        eventVersions.put(eventId, new long[]{catalogVersion, eventVersion});
+    }
+
+    /**
+     * Last known version of the event, or null when it was not read since the catalog changed.
+     */
+    public Long eventVersion(UUID eventId) {
+        long[] known = eventVersions.get(eventId);
+        if (known == null || known[0] != version.get()) return null;
+        return known[1];
+    }
+
+    public String catalogETag() {
+        return "\"catalog-" + current() + "\"";
+    }
+
+    public static String eventETag(UUID eventId, long eventVersion) {
+        return "\"event-" + eventId + "-" + eventVersion + "\"";
+    }
+}
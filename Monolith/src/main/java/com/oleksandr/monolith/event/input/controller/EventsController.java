@@ -1,9 +1,12 @@
 package com.oleksandr.monolith.event.input.controller;
 
+import com.oleksandr.common.dto.CursorPage;
 import com.oleksandr.common.dto.TicketDTO;
 import com.oleksandr.monolith.coordinator.EventTicketCoordinator;
+import com.oleksandr.monolith.event.catalog.CatalogVersion;
 import com.oleksandr.monolith.event.output.dto.EventDetailsDTO;
 import com.oleksandr.monolith.event.output.dto.EventSummaryDTO;
+import com.oleksandr.monolith.event.output.dto.SeatMapDTO;
 import com.oleksandr.monolith.event.service.api.EventService;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -11,6 +14,7 @@
 import org.springframework.data.domain.Page;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.UUID;
@@ -24,10 +28,13 @@ public class EventsController {
 
     private final EventService eventService;
     private final EventTicketCoordinator eventTicketCoordinator;
+    private final CatalogVersion catalogVersion;
 
-    public EventsController(EventService eventService, EventTicketCoordinator eventTicketCoordinator) {
+    public EventsController(EventService eventService, EventTicketCoordinator eventTicketCoordinator,
+                            CatalogVersion catalogVersion) {
         this.eventService = eventService;
         this.eventTicketCoordinator = eventTicketCoordinator;
+        this.catalogVersion = catalogVersion;
     }
 
 
@@ -40,17 +47,59 @@ public Page<EventSummaryDTO> getEventsPaginated(
         @RequestParam(defaultValue = "10") 
         @Min(value = 1, message = "Page size must be at least 1")
         @Max(value = 100, message = "Page size cannot exceed 100") 
-        int size
+        int size,
+
+        WebRequest request
     ) {
         log.info("GET /events?page={}&size={}", page, size);
+        // 304 straight from the catalog version, without touching the database
+        if (request.checkNotModified(catalogVersion.catalogETag(), catalogVersion.lastModified())) {
+            return null;
+        }
         return eventService.getAllEventsSummaryPaginated(page, size);
     }
 
 
+    /**
+     * Cursor variant of {@code GET /events}: pass an empty {@code cursor} for the first page,
+     * then the {@code nextCursor} of the previous response.
+     */
+    @GetMapping(params = "cursor")
+    public CursorPage<EventSummaryDTO> getEventsByCursor(
+        @RequestParam("cursor") String cursor,
+
+        @RequestParam(defaultValue = "10")
+        @Min(value = 1, message = "Page size must be at least 1")
+        @Max(value = 100, message = "Page size cannot exceed 100")
+        int size,
+
+        WebRequest request
+    ) {
+        log.info("GET /events?cursor={}&size={}", cursor, size);
+        if (request.checkNotModified(catalogVersion.catalogETag(), catalogVersion.lastModified())) {
+            return null;
+        }
+        return eventService.getEventsSummaryAfter(cursor, size);
+    }
+
+
     @GetMapping("/{id}")
-    public EventDetailsDTO getEventDetails(@PathVariable("id") UUID id) {
+    public EventDetailsDTO getEventDetails(@PathVariable("id") UUID id, WebRequest request) {
         log.info("GET /events/{}", id);
-        return eventService.getEventDetails(id);
+        Long known = catalogVersion.eventVersion(id);
+        if (known != null) {
+            if (request.checkNotModified(CatalogVersion.eventETag(id, known), catalogVersion.lastModified())) {
+                return null;
+            }
+            return eventService.getEventDetails(id);
+        }
+
+        EventDetailsDTO details = eventService.getEventDetails(id);
+        Long loaded = catalogVersion.eventVersion(id);
+        if (loaded != null && request.checkNotModified(CatalogVersion.eventETag(id, loaded), catalogVersion.lastModified())) {
+            return null;
+        }
+        return details;
     }
 
 
@@ -67,4 +116,14 @@ public List<TicketDTO> getTicketsByEvent( @PathVariable("id") UUID id ) {
         return eventTicketCoordinator.getTicketsByEventId(id);
     }
 
+
+    @GetMapping("/{id}/seat-map")
+    public SeatMapDTO getSeatMap(
+        @PathVariable("id") UUID id,
+        @RequestParam(value = "since", required = false) Long sinceVersion
+    ) {
+        log.debug("GET /events/{}/seat-map?since={}", id, sinceVersion);
+        return eventTicketCoordinator.getSeatMap(id, sinceVersion);
+    }
+
 }
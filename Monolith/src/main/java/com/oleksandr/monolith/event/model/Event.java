@@ -10,7 +10,8 @@
 import java.util.UUID;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events",
+       indexes = @Index(name = "idx_events_event_date_id", columnList = "event_date, id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,6 +36,10 @@ public class Event {
     @Column(nullable = false)
     private Long version;
 
+    // Provider hash of the last synced state, null once the event was changed here
+    @Column(length = 64)
+    private String contentHash;
+
     public Event(UUID id, String name, String description, String location, LocalDateTime eventDate, String imageURL, List<Ticket> tickets) {
         this.id = id;
         this.name = name;
@@ -0,0 +1,21 @@
+package com.oleksandr.monolith.event.output.dto;
+
+import lombok.Builder;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact seat availability of an event. {@code data} is base64: run-length encoded statuses
+ * of all seats, or only the changed seats when {@code delta} is true. Seat index is the position
+ * of the ticket in ascending id order, status bytes index into {@code statuses}.
+ */
+@Builder
+public record SeatMapDTO(
+        UUID eventId,
+        long version,
+        int seats,
+        boolean delta,
+        List<String> statuses,
+        String data
+) {}
@@ -0,0 +1,209 @@
+package com.oleksandr.monolith.event.repository;
+
+import com.oleksandr.common.dto.EventDTO;
+import com.oleksandr.common.dto.TicketDTO;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Set-based writes for the catalog sync: JDBC batches of {@code INSERT ... ON CONFLICT DO UPDATE}
+ * instead of loading and dirty-checking entities one by one. An update only happens, and only
+ * bumps {@code version}, when a column actually differs.
+ */
+@Slf4j
+@Repository
+public class EventBulkRepository {
+
+    private static final String UPSERT_EVENT =
+            "INSERT INTO events (id, name, description, location, imageurl, event_date, version) " +
+            "VALUES (?, ?, ?, ?, ?, ?, 0) " +
+            "ON CONFLICT (id) DO UPDATE SET name = EXCLUDED.name, description = EXCLUDED.description, " +
+            "location = EXCLUDED.location, imageurl = EXCLUDED.imageurl, event_date = EXCLUDED.event_date, " +
+            "version = events.version + 1 " +
+            "WHERE (events.name, events.description, events.location, events.imageurl, events.event_date) " +
+            "IS DISTINCT FROM (EXCLUDED.name, EXCLUDED.description, EXCLUDED.location, EXCLUDED.imageurl, EXCLUDED.event_date)";
+
+    // A ticket without a status keeps the stored one (new tickets start AVAILABLE)
+    private static final String UPSERT_TICKET =
+            "INSERT INTO tickets (id, event_id, type, price, place, status, version) " +
+            "VALUES (?, ?, ?, ?, ?, COALESCE(CAST(? AS VARCHAR), 'AVAILABLE'), 0) " +
+            "ON CONFLICT (id) DO UPDATE SET type = EXCLUDED.type, price = EXCLUDED.price, place = EXCLUDED.place, " +
+            "status = COALESCE(CAST(? AS VARCHAR), tickets.status), version = tickets.version + 1 " +
+            "WHERE (tickets.type, tickets.price, tickets.place, tickets.status) " +
+            "IS DISTINCT FROM (EXCLUDED.type, EXCLUDED.price, EXCLUDED.place, COALESCE(CAST(? AS VARCHAR), tickets.status))";
+
+    // Ticket ids are global, so one kept-set covers every synced event; unnest lets it hash-anti-join
+    private static final String REMOVED_TICKETS =
+            "SELECT t.id FROM tickets t WHERE t.event_id = ANY(?) " +
+            "AND NOT EXISTS (SELECT 1 FROM unnest(?) AS kept(id) WHERE kept.id = t.id)";
+
+    // Removed tickets are only dropped once nothing a customer holds or paid for points at them
+    private static final String LIVE_BOOKING_OF_TICKET =
+            "SELECT 1 FROM bookings live WHERE live.ticket_id = t.id " +
+            "AND live.status IN ('CREATED', 'WAITING_FOR_PAYMENT', 'PAID')";
+
+    private static final String DELETE_BOOKINGS_OF_REMOVED_TICKETS =
+            "DELETE FROM bookings WHERE ticket_id IN (" + REMOVED_TICKETS +
+            " AND NOT EXISTS (" + LIVE_BOOKING_OF_TICKET + "))";
+
+    private static final String DELETE_REMOVED_TICKETS =
+            "DELETE FROM tickets WHERE id IN (" + REMOVED_TICKETS +
+            " AND NOT EXISTS (SELECT 1 FROM bookings b WHERE b.ticket_id = t.id)) RETURNING event_id";
+
+    private static final String DELETE_DEAD_BOOKINGS_OF_EVENTS =
+            "DELETE FROM bookings b USING tickets t WHERE b.ticket_id = t.id AND t.event_id = ANY(?) " +
+            "AND NOT EXISTS (" + LIVE_BOOKING_OF_TICKET + ")";
+
+    private static final String DELETE_FREE_TICKETS_OF_EVENTS =
+            "DELETE FROM tickets t WHERE t.event_id = ANY(?) " +
+            "AND NOT EXISTS (SELECT 1 FROM bookings b WHERE b.ticket_id = t.id)";
+
+    private static final String DELETE_EMPTY_EVENTS =
+            "DELETE FROM events e WHERE e.id = ANY(?) " +
+            "AND NOT EXISTS (SELECT 1 FROM tickets t WHERE t.event_id = e.id) RETURNING e.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public EventBulkRepository(JdbcTemplate jdbcTemplate, @Value("${event.sync.batch-size:500}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Stored content hashes of the given events that exist, the hash is null when it was never synced.
+     */
+    public Map<UUID, String> findContentHashes(Collection<UUID> ids) {
+        if (ids.isEmpty()) return Map.of();
+        Map<UUID, String> hashes = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT id, content_hash FROM events WHERE id = ANY(?)",
+                ps -> ps.setArray(1, uuidArray(ps, ids)),
+                rs -> {
+                    hashes.put(rs.getObject(1, UUID.class), rs.getString(2));
+                });
+        return hashes;
+    }
+
+    /**
+     * Inserts new events and updates changed ones.
+     * Returns the ids of the rows that were written, unchanged events are skipped.
+     */
+    public Set<UUID> upsertEvents(List<EventDTO> events) {
+        int[][] counts = jdbcTemplate.batchUpdate(UPSERT_EVENT, events, batchSize, (ps, event) -> {
+            ps.setObject(1, event.id());
+            ps.setString(2, event.name());
+            ps.setString(3, event.description());
+            ps.setString(4, event.location());
+            ps.setString(5, event.imageURL());
+            ps.setObject(6, event.eventDate());
+        });
+        return written(counts, events, EventDTO::id);
+    }
+
+    /**
+     * Inserts new tickets and updates changed ones, keyed by owning event.
+     * Returns the ids of the events whose tickets were written.
+     */
+    public Set<UUID> upsertTickets(Map<UUID, List<TicketDTO>> ticketsByEvent) {
+        List<Map.Entry<UUID, TicketDTO>> rows = new ArrayList<>();
+        ticketsByEvent.forEach((eventId, tickets) -> tickets.forEach(t -> rows.add(Map.entry(eventId, t))));
+
+        int[][] counts = jdbcTemplate.batchUpdate(UPSERT_TICKET, rows, batchSize, (ps, row) -> {
+            TicketDTO ticket = row.getValue();
+            String status = ticket.status() != null ? ticket.status().name() : null;
+            ps.setObject(1, ticket.id());
+            ps.setObject(2, row.getKey());
+            ps.setString(3, ticket.type());
+            ps.setDouble(4, ticket.price());
+            ps.setString(5, ticket.place());
+            for (int i = 6; i <= 8; i++) {
+                if (status != null) ps.setString(i, status);
+                else ps.setNull(i, Types.VARCHAR);
+            }
+        });
+        return written(counts, rows, Map.Entry::getKey);
+    }
+
+    // Plain UPDATE without a version bump, the hash is bookkeeping rather than catalog content
+    public void updateContentHashes(List<EventDTO> events) {
+        jdbcTemplate.batchUpdate("UPDATE events SET content_hash = ? WHERE id = ?", events, batchSize, (ps, event) -> {
+            ps.setString(1, event.contentHash());
+            ps.setObject(2, event.id());
+        });
+    }
+
+    /**
+     * Removes tickets of the given events that are not in {@code keptTicketIds}, together with their cancelled
+     * and expired bookings. Tickets with a live booking are kept. Returns the ids of the events that lost tickets.
+     */
+    public Set<UUID> deleteTicketsNotIn(Collection<UUID> eventIds, Collection<UUID> keptTicketIds) {
+        if (eventIds.isEmpty()) return Set.of();
+        PreparedStatementSetter bind = ps -> {
+            ps.setArray(1, uuidArray(ps, eventIds));
+            ps.setArray(2, uuidArray(ps, keptTicketIds));
+        };
+        jdbcTemplate.update(DELETE_BOOKINGS_OF_REMOVED_TICKETS, bind);
+        return new HashSet<>(jdbcTemplate.query(DELETE_REMOVED_TICKETS, bind,
+                (rs, row) -> rs.getObject(1, UUID.class)));
+    }
+
+    /**
+     * Removes the events that the provider dropped, but never a ticket with a live (created, waiting
+     * for payment or paid) booking: such tickets stay, and so does their event, with only the free
+     * seats removed. Cancelled and expired bookings of removed tickets go with them.
+     */
+    public RemovedEvents deleteEvents(Collection<UUID> eventIds) {
+        if (eventIds.isEmpty()) return new RemovedEvents(Set.of(), Set.of());
+        PreparedStatementSetter bind = ps -> ps.setArray(1, uuidArray(ps, eventIds));
+        jdbcTemplate.update(DELETE_DEAD_BOOKINGS_OF_EVENTS, bind);
+        jdbcTemplate.update(DELETE_FREE_TICKETS_OF_EVENTS, bind);
+        Set<UUID> removed = new HashSet<>(jdbcTemplate.query(DELETE_EMPTY_EVENTS, bind,
+                (rs, row) -> rs.getObject(1, UUID.class)));
+        Set<UUID> retained = new HashSet<>(jdbcTemplate.query("SELECT id FROM events WHERE id = ANY(?)", bind,
+                (rs, row) -> rs.getObject(1, UUID.class)));
+        return new RemovedEvents(removed, retained);
+    }
+
+    /**
+     * @param removed  events that are gone
+     * @param retained events kept because some of their tickets have live bookings; their free tickets are gone
+     */
+    public record RemovedEvents(Set<UUID> removed, Set<UUID> retained) {
+    }
+
+    private static Array uuidArray(PreparedStatement ps, Collection<UUID> ids) throws SQLException {
+        return ps.getConnection().createArrayOf("uuid", ids.toArray());
+    }
+
+    // Batch counts come back in input order, split into chunks of batchSize
+    private static <T> Set<UUID> written(int[][] counts, List<T> rows, Function<T, UUID> key) {
+        Set<UUID> written = new HashSet<>();
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // drivers that rewrite batches report SUCCESS_NO_INFO, count those as written
+                if (count != 0) written.add(key.apply(rows.get(index)));
+                index++;
+            }
+        }
+        return written;
+    }
+}
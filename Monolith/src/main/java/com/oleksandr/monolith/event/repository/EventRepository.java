@@ -1,7 +1,13 @@
 package com.oleksandr.monolith.event.repository;
 
 import com.oleksandr.monolith.event.model.Event;
+import com.oleksandr.monolith.event.output.dto.EventSummaryDTO;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -9,4 +15,29 @@
 
 public interface EventRepository extends JpaRepository<Event, UUID> {
     List<Event> findByEventDateAfter(LocalDateTime date);
+
+    // Read-only projections for the catalog endpoints: no managed entities, no tickets proxy
+    String SUMMARY = "SELECT new com.oleksandr.monolith.event.output.dto.EventSummaryDTO(" +
+            "e.id, e.name, e.description, e.location, e.imageURL, e.eventDate) FROM Event e ";
+
+    @Query(value = SUMMARY, countQuery = "SELECT COUNT(e) FROM Event e")
+    Page<EventSummaryDTO> findSummaries(Pageable pageable);
+
+    @Query(SUMMARY)
+    List<EventSummaryDTO> findAllSummaries();
+
+    // Keyset pages over (eventDate, id), events without a date come last. Backed by idx_events_event_date_id.
+    @Query(SUMMARY + "WHERE e.eventDate IS NOT NULL ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventSummaryDTO> findDatedSummaries(Limit limit);
+
+    // the leading >= keeps the predicate a range seek on the index
+    @Query(SUMMARY + "WHERE e.eventDate >= :eventDate " +
+           "AND (e.eventDate > :eventDate OR e.id > :id) ORDER BY e.eventDate ASC, e.id ASC")
+    List<EventSummaryDTO> findDatedSummariesAfter(@Param("eventDate") LocalDateTime eventDate, @Param("id") UUID id, Limit limit);
+
+    @Query(SUMMARY + "WHERE e.eventDate IS NULL ORDER BY e.id ASC")
+    List<EventSummaryDTO> findUndatedSummaries(Limit limit);
+
+    @Query(SUMMARY + "WHERE e.eventDate IS NULL AND e.id > :id ORDER BY e.id ASC")
+    List<EventSummaryDTO> findUndatedSummariesAfter(@Param("id") UUID id, Limit limit);
 }
@@ -1,5 +1,6 @@
 package com.oleksandr.monolith.event.service.api;
 
+import com.oleksandr.common.dto.CursorPage;
 import com.oleksandr.monolith.event.model.Event;
 import com.oleksandr.monolith.event.output.dto.EventDetailsDTO;
 import com.oleksandr.monolith.event.output.dto.EventSummaryDTO;
@@ -21,5 +22,7 @@ public interface EventService {
     
     Page<EventSummaryDTO> getAllEventsSummaryPaginated(int page, int size);
 
+    CursorPage<EventSummaryDTO> getEventsSummaryAfter(String cursor, int size);
+
     EventDetailsDTO getEventDetails(UUID id);
 }
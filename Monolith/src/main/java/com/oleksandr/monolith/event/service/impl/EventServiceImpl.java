@@ -1,6 +1,9 @@
 package com.oleksandr.monolith.event.service.impl;
 
+import com.oleksandr.common.dto.CursorPage;
+import com.oleksandr.common.pagination.EventCursor;
 import com.oleksandr.monolith.common.exceptions.ResourceNotFoundException;
+import com.oleksandr.monolith.event.catalog.CatalogVersion;
 import com.oleksandr.monolith.event.mapper.EventMapper;
 import com.oleksandr.monolith.event.model.Event;
 import com.oleksandr.monolith.event.output.dto.EventDetailsDTO;
@@ -8,6 +11,7 @@
 import com.oleksandr.monolith.event.repository.EventRepository;
 import com.oleksandr.monolith.event.service.api.EventService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -16,6 +20,7 @@
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -25,10 +30,12 @@ public class EventServiceImpl implements EventService {
 
     private final EventRepository eventRepository;
     private final EventMapper eventMapper;
+    private final CatalogVersion catalogVersion;
 
-    public EventServiceImpl(EventRepository eventRepository, EventMapper eventMapper) {
+    public EventServiceImpl(EventRepository eventRepository, EventMapper eventMapper, CatalogVersion catalogVersion) {
         this.eventRepository = eventRepository;
         this.eventMapper = eventMapper;
+        this.catalogVersion = catalogVersion;
     }
 
     @Override
@@ -48,7 +55,7 @@ public List<Event> getAllEvents() {
     @Transactional(readOnly = true)
     @Override
     public List<EventSummaryDTO> getAllEventsSummary() {
-        return eventMapper.mapListToSummaryList(this.getAllEvents());
+        return eventRepository.findAllSummaries();
     }
 
     @Transactional(readOnly = true)
@@ -65,20 +72,57 @@ public Page<EventSummaryDTO> getAllEventsSummaryPaginated(int page, int size) {
         
         Sort sort = Sort.by(Sort.Direction.ASC, "eventDate");
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Event> eventPage = eventRepository.findAll(pageable);
+        Page<EventSummaryDTO> eventPage = eventRepository.findSummaries(pageable);
         
         log.info("Retrieved {} events (page {}/{}) sorted by eventDate", 
             eventPage.getNumberOfElements(), 
             eventPage.getNumber(), 
             eventPage.getTotalPages());
         
-        return eventPage.map(eventMapper::mapToSummaryDto);
+        return eventPage;
+    }
+
+    /**
+     * Seeks past the cursor on (eventDate, id) instead of OFFSET, and skips the count query.
+     */
+    @Transactional(readOnly = true)
+    @Override
+    public CursorPage<EventSummaryDTO> getEventsSummaryAfter(String cursor, int size) {
+        if (size < 1 || size > 100) {
+            throw new IllegalArgumentException("Page size must be between 1 and 100");
+        }
+        EventCursor after = EventCursor.decode(cursor);
+        boolean inDated = after == null || after.eventDate() != null;
+
+        // one extra row tells whether there is a next page
+        List<EventSummaryDTO> events = new ArrayList<>(size + 1);
+        if (inDated) {
+            events.addAll(after == null
+                    ? eventRepository.findDatedSummaries(Limit.of(size + 1))
+                    : eventRepository.findDatedSummariesAfter(after.eventDate(), after.id(), Limit.of(size + 1)));
+        }
+        if (events.size() <= size) {
+            Limit rest = Limit.of(size + 1 - events.size());
+            events.addAll(inDated
+                    ? eventRepository.findUndatedSummaries(rest)
+                    : eventRepository.findUndatedSummariesAfter(after.id(), rest));
+        }
+
+        boolean hasNext = events.size() > size;
+        List<EventSummaryDTO> slice = hasNext ? events.subList(0, size) : events;
+        EventSummaryDTO last = slice.isEmpty() ? null : slice.get(slice.size() - 1);
+        String nextCursor = hasNext ? new EventCursor(last.eventDate(), last.id()).encode() : null;
+
+        log.debug("Retrieved {} events after cursor={}, hasNext={}", slice.size(), cursor, hasNext);
+        return new CursorPage<>(List.copyOf(slice), nextCursor);
     }
 
     @Override
     @Transactional(readOnly = true)
     public EventDetailsDTO getEventDetails(UUID id) {
+        long catalog = catalogVersion.current();
         Event event = findById(id);
+        catalogVersion.remember(id, event.getVersion(), catalog);
         return eventMapper.mapEventToDetailsDto(event);
     }
 
@@ -92,6 +136,9 @@ public List<Event> getUpcomingEvents() {
     @Transactional
     @Override
     public Event saveEventEntity(Event event) {
+        // the next sync must not skip an event that was edited locally
+        event.setContentHash(null);
+        catalogVersion.bumpAfterCommit();
         return eventRepository.saveAndFlush(event);
     }
 
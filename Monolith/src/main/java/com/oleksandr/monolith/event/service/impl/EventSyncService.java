@@ -1,19 +1,21 @@
 package com.oleksandr.monolith.event.service.impl;
 
 import com.oleksandr.common.dto.EventDTO;
-import com.oleksandr.monolith.event.mapper.EventMapper;
-import com.oleksandr.monolith.event.model.Event;
-import com.oleksandr.monolith.event.repository.EventRepository;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceException;
+import com.oleksandr.common.dto.TicketDTO;
+import com.oleksandr.monolith.event.catalog.CatalogVersion;
+import com.oleksandr.monolith.event.repository.EventBulkRepository;
+import com.oleksandr.monolith.ticket.inventory.TicketInventory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -21,41 +23,76 @@
 @Service
 @RequiredArgsConstructor
 public class EventSyncService {
-    private final EventRepository eventRepository;
-    private final EventMapper eventMapper;
-    private final EntityManager entityManager;
+    private final EventBulkRepository eventBulkRepository;
+    private final TicketInventory ticketInventory;
+    private final CatalogVersion catalogVersion;
 
     @Transactional
     public void syncAll(List<EventDTO> dtos) {
         if (dtos == null || dtos.isEmpty()) return;
 
         Map<UUID, EventDTO> unique = dtos.stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toMap(EventDTO::id, d -> d, (a, b)->a));
+                .filter(d -> d != null && d.id() != null)
+                .collect(Collectors.toMap(EventDTO::id, d -> d, (a, b) -> a, LinkedHashMap::new));
+        if (unique.isEmpty()) return;
 
+        // Events whose provider hash matches the one applied last time are skipped entirely
+        Map<UUID, String> storedHashes = eventBulkRepository.findContentHashes(unique.keySet());
+        int received = unique.size();
+        unique.values().removeIf(dto -> dto.contentHash() != null
+                && dto.contentHash().equals(storedHashes.get(dto.id())));
+        if (unique.isEmpty()) {
+            log.info("Synced {} events, all unchanged", received);
+            return;
+        }
+
+        Set<UUID> existing = storedHashes.keySet();
+        Set<UUID> changedEvents = eventBulkRepository.upsertEvents(List.copyOf(unique.values()));
+
+        Map<UUID, List<TicketDTO>> ticketsByEvent = new LinkedHashMap<>();
+        Set<UUID> listedEvents = new HashSet<>();
+        Set<UUID> keptTickets = new HashSet<>();
         for (EventDTO dto : unique.values()) {
-            if (dto == null || dto.id() == null) continue;
-
-            if (eventRepository.existsById(dto.id())) {
-                Event existing = eventRepository.findById(dto.id()).orElseThrow();
-                eventMapper.updateEntityFromDto(existing, dto);
-                // managed — Hibernate
-            } else {
-                Event toInsert = eventMapper.mapToEntityForInsert(dto);
-                try {
-                    entityManager.persist(toInsert);
-                    entityManager.flush();
-                } catch (PersistenceException ex) {
-                    // race:  exists and persist
-                    Event existing = eventRepository.findById(dto.id()).orElse(null);
-                    if (existing != null) {
-                        eventMapper.updateEntityFromDto(existing, dto);
-                    } else {
-                        throw ex;
-                    }
-                }
+            if (dto.tickets() == null) continue;
+            List<TicketDTO> tickets = dto.tickets().stream()
+                    .filter(t -> t != null && t.id() != null)
+                    .toList();
+            ticketsByEvent.put(dto.id(), tickets);
+            if (existing.contains(dto.id())) {
+                listedEvents.add(dto.id());
+                tickets.forEach(t -> keptTickets.add(t.id()));
             }
         }
+
+        Set<UUID> eventsWithTicketChanges = new HashSet<>(eventBulkRepository.deleteTicketsNotIn(listedEvents, keptTickets));
+        eventsWithTicketChanges.addAll(eventBulkRepository.upsertTickets(ticketsByEvent));
+        eventBulkRepository.updateContentHashes(List.copyOf(unique.values()));
+
+        // Only events whose seats were rewritten lose their in-memory inventory
+        eventsWithTicketChanges.forEach(ticketInventory::evictAfterCommit);
+        if (!changedEvents.isEmpty()) {
+            catalogVersion.bumpAfterCommit();
+        }
+
+        log.info("Synced {} events ({} unchanged, {} new, {} written), tickets rewritten for {} events",
+                received, received - unique.size(), unique.keySet().stream().filter(id -> !existing.contains(id)).count(),
+                changedEvents.size(), eventsWithTicketChanges.size());
+    }
+
+    @Transactional
+    public void removeAll(Collection<UUID> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) return;
+
+        EventBulkRepository.RemovedEvents result = eventBulkRepository.deleteEvents(eventIds);
+        result.removed().forEach(ticketInventory::evictAfterCommit);
+        result.retained().forEach(ticketInventory::evictAfterCommit);
+        if (!result.removed().isEmpty() || !result.retained().isEmpty()) {
+            catalogVersion.bumpAfterCommit();
+        }
+        if (!result.retained().isEmpty()) {
+            log.warn("Kept {} removed events that still have live bookings, only their free tickets were dropped: {}",
+                    result.retained().size(), result.retained());
+        }
+        log.info("Removed {} of {} events", result.removed().size(), eventIds.size());
     }
 }
-
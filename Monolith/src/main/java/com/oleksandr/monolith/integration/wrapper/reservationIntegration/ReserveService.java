@@ -1,10 +1,12 @@
 package com.oleksandr.monolith.integration.wrapper.reservationIntegration;
 
+import com.oleksandr.monolith.metrics.BookingMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -12,44 +14,58 @@
 public class ReserveService {
 
     private final WebClient webClient;
+    private final BookingMetrics bookingMetrics;
 
     public ReserveService(WebClient.Builder builder,
-                          @Value("${event.provider.url}") String eventProviderUrl) {
+                          @Value("${event.provider.url}") String eventProviderUrl,
+                          BookingMetrics bookingMetrics) {
+        this.bookingMetrics = bookingMetrics;
         this.webClient = builder.baseUrl(eventProviderUrl + "/external").build();
     }
 
     public void sendBookingCreation(UUID ticketId, UUID id) {
         ReservationRequestDto request = new ReservationRequestDto(ticketId, id);
         log.info("sendBookingCreation");
-        webClient.post()
+        bookingMetrics.time(BookingMetrics.EVENT_PROVIDER_NOTIFICATION, () -> webClient.post()
                 .uri(uriBuilder -> uriBuilder.path("/reserveTicket")
                         .build())
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(ReservationResponseDto.class)
-                .block();
+                .block());
+    }
+
+    public void sendBookingsCreation(List<ReservationRequestDto> requests) {
+        log.info("sendBookingsCreation, size={}", requests.size());
+        bookingMetrics.time(BookingMetrics.EVENT_PROVIDER_NOTIFICATION, () -> webClient.post()
+                .uri(uriBuilder -> uriBuilder.path("/reserveTickets")
+                        .build())
+                .bodyValue(requests)
+                .retrieve()
+                .toBodilessEntity()
+                .block());
     }
 
     public void sendBookingCancel(UUID ticketId, UUID id) {
         ReservationRequestDto request = new ReservationRequestDto(ticketId, id);
         log.info("sendBookingCancel");
-        webClient.post()
+        bookingMetrics.time(BookingMetrics.EVENT_PROVIDER_NOTIFICATION, () -> webClient.post()
                 .uri(uriBuilder -> uriBuilder.path("/cancelTicket")
                         .build())
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(ReservationResponseDto.class)
-                .block();
+                .block());
     }
     public void sendBookingComplete(UUID ticketId, UUID id) {
         ReservationRequestDto request = new ReservationRequestDto(ticketId, id);
         log.info("sendBookingComplete");
-        webClient.post()
+        bookingMetrics.time(BookingMetrics.EVENT_PROVIDER_NOTIFICATION, () -> webClient.post()
                 .uri(uriBuilder -> uriBuilder.path("/confirmTicket")
                         .build())
                 .bodyValue(request)
                 .retrieve()
                 .bodyToMono(ReservationResponseDto.class)
-                .block();
+                .block());
     }
 }
@@ -2,6 +2,7 @@
 
 import com.oleksandr.common.dto.EventDTO;
 import com.oleksandr.common.dto.TicketDTO;
+import reactor.core.publisher.Flux;
 
 import java.util.List;
 import java.util.UUID;
@@ -9,6 +10,7 @@
 public interface WrapperService {
 
     List<EventDTO> fetchExternalEvents();
+    Flux<List<EventDTO>> streamExternalEvents();
     EventDTO fetchEventById(UUID eventId);
     List<TicketDTO> fetchTicketsByEvent(UUID eventId);
 }
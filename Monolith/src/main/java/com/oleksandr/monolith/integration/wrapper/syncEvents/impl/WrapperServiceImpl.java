@@ -1,53 +1,62 @@
 package com.oleksandr.monolith.integration.wrapper.syncEvents.impl;
 
+import com.oleksandr.common.dto.CursorPage;
 import com.oleksandr.common.dto.EventDTO;
 import com.oleksandr.common.dto.TicketDTO;
 import com.oleksandr.monolith.integration.wrapper.syncEvents.api.WrapperService;
-import com.oleksandr.monolith.integration.wrapper.syncEvents.dto.PageResponse;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.util.ArrayList;
 import java.util.List;
 
 @Service
 public class WrapperServiceImpl implements WrapperService {
 
     private final WebClient webClient;
+    private final int pageSize;
 
     public WrapperServiceImpl(WebClient.Builder builder, 
-                              @Value("${event.provider.url}") String eventProviderUrl) {
+                              @Value("${event.provider.url}") String eventProviderUrl,
+                              @Value("${event.sync.page-size:100}") int pageSize) {
         this.webClient = builder.baseUrl(eventProviderUrl + "/external").build();
+        this.pageSize = pageSize;
     }
 
+    /**
+     * Walks the provider's keyset cursor, which orders by (eventDate, id) and so neither repeats
+     * nor skips events that share a date. The next page is requested once the previous one is
+     * emitted, so with a prefetch of 1 downstream, fetching overlaps the write of one page.
+     */
     @Override
-    public List<EventDTO> fetchExternalEvents() {
-        List<EventDTO> allEvents = new ArrayList<>();
-        int pageNumber = 0;
-        int size = 100;
-        PageResponse<EventDTO> pageResponse;
-
-        do {
-            final int currentPage = pageNumber;
-            pageResponse = webClient.get()
-                    .uri(uriBuilder -> uriBuilder.path("/events")
-                            .queryParam("includeTickets", "true")
-                            .queryParam("page", currentPage)
-                            .queryParam("size", size)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<PageResponse<EventDTO>>() {})
-                    .block();
+    public Flux<List<EventDTO>> streamExternalEvents() {
+        return fetchPage("")
+                .expand(page -> page.nextCursor() != null ? fetchPage(page.nextCursor()) : Mono.empty())
+                .map(page -> page.content() != null ? page.content() : List.<EventDTO>of())
+                .filter(page -> !page.isEmpty());
+    }
 
-            if (pageResponse != null && pageResponse.getContent() != null) {
-                allEvents.addAll(pageResponse.getContent());
-                pageNumber++;
-            }
-        } while (pageResponse != null && !pageResponse.isLast());
+    // seek mode: no OFFSET scans or count(*) on the provider side
+    private Mono<CursorPage<EventDTO>> fetchPage(String cursor) {
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder.path("/events")
+                        .queryParam("includeTickets", "true")
+                        .queryParam("cursor", cursor)
+                        .queryParam("size", pageSize)
+                        .build())
+                .retrieve()
+                .bodyToMono(new ParameterizedTypeReference<CursorPage<EventDTO>>() {});
+    }
 
-        return allEvents;
+    @Override
+    public List<EventDTO> fetchExternalEvents() {
+        return streamExternalEvents()
+                .flatMapIterable(page -> page)
+                .collectList()
+                .block();
     }
 
     @Override
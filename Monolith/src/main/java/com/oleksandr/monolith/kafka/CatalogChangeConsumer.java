@@ -0,0 +1,51 @@
+package com.oleksandr.monolith.kafka;
+
+import com.oleksandr.common.catalog.EventCatalogChange;
+import com.oleksandr.common.dto.EventDTO;
+import com.oleksandr.common.enums.CATALOG_CHANGE_TYPE;
+import com.oleksandr.monolith.event.service.impl.EventSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Applies EventProvider catalog changes as they happen; {@code EventSyncScheduler} only reconciles.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CatalogChangeConsumer {
+
+    private final EventSyncService eventSyncService;
+
+    @KafkaListener(topics = EventCatalogChange.TOPIC, groupId = "monolith_catalog", batch = "true",
+            autoStartup = "${event.catalog.listener.enabled:true}")
+    public void listen(List<EventCatalogChange> changes) {
+        // Records are keyed by event id, so within a poll only the last one per event matters
+        Map<UUID, EventCatalogChange> latest = new LinkedHashMap<>();
+        for (EventCatalogChange change : changes) {
+            if (change == null || change.eventId() == null) continue;
+            latest.remove(change.eventId());
+            latest.put(change.eventId(), change);
+        }
+
+        List<EventDTO> upserts = latest.values().stream()
+                .filter(change -> change.type() != CATALOG_CHANGE_TYPE.DELETED && change.event() != null)
+                .map(EventCatalogChange::event)
+                .toList();
+        List<UUID> deletes = latest.values().stream()
+                .filter(change -> change.type() == CATALOG_CHANGE_TYPE.DELETED)
+                .map(EventCatalogChange::eventId)
+                .toList();
+        log.debug("Received {} catalog changes: {} upserts, {} deletes", changes.size(), upserts.size(), deletes.size());
+
+        eventSyncService.syncAll(upserts);
+        eventSyncService.removeAll(deletes);
+    }
+}
@@ -1,16 +1,24 @@
 package com.oleksandr.monolith.kafka;
 
 import com.oleksandr.common.notification.NotificationRequest;
+import com.oleksandr.monolith.metrics.BookingMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 public class KafkaProducer {
     private final KafkaTemplate<String, NotificationRequest> kafkaTemplate;
+    private final BookingMetrics bookingMetrics;
 
-    public void sendMessage(NotificationRequest message){
-        kafkaTemplate.send("mailNotifications", message.userForMailDTO().mailAddress(), message);
+    public CompletableFuture<SendResult<String, NotificationRequest>> sendMessage(NotificationRequest message){
+        Timer.Sample sample = bookingMetrics.start();
+        return kafkaTemplate.send("mailNotifications", message.userForMailDTO().mailAddress(), message)
+                .whenComplete((result, ex) -> bookingMetrics.stop(sample, BookingMetrics.KAFKA_PUBLISH, ex == null));
     }
 }
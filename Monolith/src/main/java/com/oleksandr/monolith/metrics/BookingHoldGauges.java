@@ -0,0 +1,68 @@
+package com.oleksandr.monolith.metrics;
+
+import com.oleksandr.common.enums.BOOKING_STATUS;
+import com.oleksandr.monolith.booking.expiry.BookingHoldExpiry;
+import com.oleksandr.monolith.booking.repository.BookingRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Open holds by status and overdue holds. Values come from two count queries refreshed
+ * on a schedule, so scraping never touches the database.
+ */
+@Slf4j
+@Component
+public class BookingHoldGauges {
+
+    private static final EnumSet<BOOKING_STATUS> HELD_STATUSES =
+            EnumSet.of(BOOKING_STATUS.CREATED, BOOKING_STATUS.WAITING_FOR_PAYMENT);
+
+    private final BookingRepository bookingRepository;
+    private final BookingHoldExpiry bookingHoldExpiry;
+
+    private final Map<BOOKING_STATUS, AtomicLong> byStatus = new EnumMap<>(BOOKING_STATUS.class);
+    private final AtomicLong overdue = new AtomicLong();
+
+    public BookingHoldGauges(BookingRepository bookingRepository,
+                             BookingHoldExpiry bookingHoldExpiry,
+                             MeterRegistry meterRegistry) {
+        this.bookingRepository = bookingRepository;
+        this.bookingHoldExpiry = bookingHoldExpiry;
+
+        for (BOOKING_STATUS status : HELD_STATUSES) {
+            AtomicLong value = new AtomicLong();
+            byStatus.put(status, value);
+            Gauge.builder("booking.holds", value, AtomicLong::get)
+                    .description("Open booking holds by status")
+                    .tag("status", status.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("booking.holds.overdue", overdue, AtomicLong::get)
+                .description("Open holds past their payment deadline")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${metrics.booking.refresh-ms:30000}")
+    public void refresh() {
+        try {
+            Map<BOOKING_STATUS, Long> counts = new EnumMap<>(BOOKING_STATUS.class);
+            List<Object[]> rows = bookingRepository.countGroupedByStatusIn(HELD_STATUSES);
+            for (Object[] row : rows) {
+                counts.put((BOOKING_STATUS) row[0], (Long) row[1]);
+            }
+            byStatus.forEach((status, value) -> value.set(counts.getOrDefault(status, 0L)));
+            overdue.set(bookingRepository.countByStatusInAndCreatedAtBefore(HELD_STATUSES, bookingHoldExpiry.cutoff()));
+        } catch (Exception e) {
+            log.warn("Failed to refresh booking gauges: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.oleksandr.monolith.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Stage timers and conflict counters of the booking pipeline.
+ * Timers are published as {@code booking.stage} with {@code stage} and {@code outcome} tags.
+ */
+@Component
+public class BookingMetrics {
+
+    public static final String USER_PROVISIONING = "user_provisioning";
+    public static final String TICKET_RESERVATION = "ticket_reservation";
+    public static final String BOOKING_INSERT = "booking_insert";
+    public static final String EVENT_PROVIDER_NOTIFICATION = "eventprovider_notification";
+    public static final String PAYU_TOKEN = "payu_token";
+    public static final String PAYU_ORDER = "payu_order";
+    public static final String KAFKA_PUBLISH = "kafka_publish";
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+
+    private final MeterRegistry meterRegistry;
+
+    public BookingMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public <T> T time(String stage, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = ERROR;
+        try {
+            T result = action.get();
+            outcome = SUCCESS;
+            return result;
+        } finally {
+            sample.stop(timer(stage, outcome));
+        }
+    }
+
+    public void time(String stage, Runnable action) {
+        time(stage, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public Timer.Sample start() {
+        return Timer.start(meterRegistry);
+    }
+
+    public void stop(Timer.Sample sample, String stage, boolean success) {
+        sample.stop(timer(stage, success ? SUCCESS : ERROR));
+    }
+
+    /**
+     * Counts a lost compare-and-set or other concurrency conflict, e.g. {@code ticket_cas}.
+     */
+    public void conflict(String reason) {
+        Counter.builder("booking.conflicts")
+                .description("Reservations and status transitions rejected by a concurrent change")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private Timer timer(String stage, String outcome) {
+        return Timer.builder("booking.stage")
+                .description("Duration of booking pipeline stages")
+                .tag("stage", stage)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
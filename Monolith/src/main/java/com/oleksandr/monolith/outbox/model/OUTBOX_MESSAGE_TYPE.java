@@ -0,0 +1,8 @@
+package com.oleksandr.monolith.outbox.model;
+
+public enum OUTBOX_MESSAGE_TYPE {
+    RESERVATION_CREATED,
+    RESERVATION_CANCELLED,
+    RESERVATION_CONFIRMED,
+    MAIL_NOTIFICATION
+}
@@ -0,0 +1,38 @@
+package com.oleksandr.monolith.outbox.repository;
+
+import com.oleksandr.monolith.outbox.model.OutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxRepository extends JpaRepository<OutboxMessage, Long> {
+
+    /**
+     * Locks the next due messages, at most one per aggregate key: a message is only eligible
+     * when no older live message with the same key is left, which keeps per-ticket order
+     * across retries. SKIP LOCKED lets several relays drain the table side by side.
+     */
+    @Query(value = "SELECT * FROM outbox_messages m " +
+                   "WHERE m.dead = false AND m.next_attempt_at <= :now " +
+                   "AND NOT EXISTS (SELECT 1 FROM outbox_messages e " +
+                   "                WHERE e.aggregate_key = m.aggregate_key AND e.dead = false AND e.id < m.id) " +
+                   "ORDER BY m.id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<OutboxMessage> lockNextBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    /**
+     * Pushes the next attempt of claimed messages past the delivery, so other relays skip them
+     * once the claiming transaction commits. A relay that dies mid-delivery leaves them due again
+     * when the lease runs out.
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_messages SET next_attempt_at = :until WHERE id IN (:ids)", nativeQuery = true)
+    int lease(@Param("ids") Collection<Long> ids, @Param("until") LocalDateTime until);
+
+    long countByDeadFalse();
+}
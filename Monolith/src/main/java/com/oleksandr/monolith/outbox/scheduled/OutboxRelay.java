@@ -0,0 +1,201 @@
+package com.oleksandr.monolith.outbox.scheduled;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oleksandr.common.notification.NotificationRequest;
+import com.oleksandr.monolith.integration.wrapper.reservationIntegration.ReservationRequestDto;
+import com.oleksandr.monolith.integration.wrapper.reservationIntegration.ReserveService;
+import com.oleksandr.monolith.kafka.KafkaProducer;
+import com.oleksandr.monolith.outbox.model.OUTBOX_MESSAGE_TYPE;
+import com.oleksandr.monolith.outbox.model.OutboxMessage;
+import com.oleksandr.monolith.outbox.repository.OutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Drains the outbox in batches. A batch is claimed in one short transaction that leases it
+ * to this relay, delivered outside any transaction, then deleted or rescheduled in a second one;
+ * failed messages stay in place with exponential backoff and block later messages of the same key.
+ */
+@Slf4j
+@Component
+public class OutboxRelay {
+
+    private final OutboxRepository outboxRepository;
+    private final ReserveService reserveService;
+    private final KafkaProducer kafkaProducer;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${outbox.relay.batch-size:100}")
+    private int batchSize;
+
+    @Value("${outbox.relay.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${outbox.relay.backoff-ms:1000}")
+    private long backoffMillis;
+
+    @Value("${outbox.relay.max-backoff-ms:300000}")
+    private long maxBackoffMillis;
+
+    @Value("${outbox.relay.kafka-timeout-ms:10000}")
+    private long kafkaTimeoutMillis;
+
+    // Longer than a batch takes to deliver, or a second relay claims it again
+    @Value("${outbox.relay.lease-ms:120000}")
+    private long leaseMillis;
+
+    public OutboxRelay(OutboxRepository outboxRepository,
+                       ReserveService reserveService,
+                       KafkaProducer kafkaProducer,
+                       ObjectMapper objectMapper,
+                       TransactionTemplate transactionTemplate) {
+        this.outboxRepository = outboxRepository;
+        this.reserveService = reserveService;
+        this.kafkaProducer = kafkaProducer;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.delay:1000}")
+    public void relay() {
+        int drained;
+        do {
+            drained = drainBatch();
+        } while (drained == batchSize);
+    }
+
+    int drainBatch() {
+        List<OutboxMessage> batch = transactionTemplate.execute(status -> claimBatch());
+        if (batch == null || batch.isEmpty()) return 0;
+
+        Map<OUTBOX_MESSAGE_TYPE, List<OutboxMessage>> byType = batch.stream()
+                .collect(Collectors.groupingBy(OutboxMessage::getType));
+        List<OutboxMessage> delivered = new ArrayList<>(batch.size());
+
+        deliverCreations(byType.getOrDefault(OUTBOX_MESSAGE_TYPE.RESERVATION_CREATED, List.of()), delivered);
+        for (OutboxMessage message : byType.getOrDefault(OUTBOX_MESSAGE_TYPE.RESERVATION_CANCELLED, List.of())) {
+            deliver(message, delivered, () -> {
+                ReservationRequestDto request = read(message, ReservationRequestDto.class);
+                reserveService.sendBookingCancel(request.ticketId(), request.reservationId());
+            });
+        }
+        for (OutboxMessage message : byType.getOrDefault(OUTBOX_MESSAGE_TYPE.RESERVATION_CONFIRMED, List.of())) {
+            deliver(message, delivered, () -> {
+                ReservationRequestDto request = read(message, ReservationRequestDto.class);
+                reserveService.sendBookingComplete(request.ticketId(), request.reservationId());
+            });
+        }
+        deliverMails(byType.getOrDefault(OUTBOX_MESSAGE_TYPE.MAIL_NOTIFICATION, List.of()), delivered);
+
+        List<OutboxMessage> failed = batch.stream().filter(message -> !delivered.contains(message)).toList();
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxRepository.deleteAllByIdInBatch(delivered.stream().map(OutboxMessage::getId).toList());
+            outboxRepository.saveAll(failed);
+        });
+        log.debug("Outbox batch processed: {} delivered, {} deferred", delivered.size(), failed.size());
+        return batch.size();
+    }
+
+    private List<OutboxMessage> claimBatch() {
+        List<OutboxMessage> batch = outboxRepository.lockNextBatch(LocalDateTime.now(), batchSize);
+        if (batch.isEmpty()) return batch;
+        LocalDateTime leasedUntil = LocalDateTime.now().plusNanos(leaseMillis * 1_000_000);
+        outboxRepository.lease(batch.stream().map(OutboxMessage::getId).toList(), leasedUntil);
+        return batch;
+    }
+
+    // Creations go to EventProvider in one call; if it is refused, one by one so a bad message fails alone
+    private void deliverCreations(List<OutboxMessage> messages, List<OutboxMessage> delivered) {
+        Map<OutboxMessage, ReservationRequestDto> requests = new LinkedHashMap<>();
+        for (OutboxMessage message : messages) {
+            try {
+                requests.put(message, read(message, ReservationRequestDto.class));
+            } catch (Exception e) {
+                failed(message, e);
+            }
+        }
+        if (requests.isEmpty()) return;
+
+        try {
+            reserveService.sendBookingsCreation(List.copyOf(requests.values()));
+            delivered.addAll(requests.keySet());
+            return;
+        } catch (Exception e) {
+            if (requests.size() == 1) {
+                requests.keySet().forEach(message -> failed(message, e));
+                return;
+            }
+            log.warn("Batch reservation of {} tickets failed, sending one by one: {}", requests.size(), e.getMessage());
+        }
+        requests.forEach((message, request) -> deliver(message, delivered,
+                () -> reserveService.sendBookingCreation(request.ticketId(), request.reservationId())));
+    }
+
+    private void deliverMails(List<OutboxMessage> messages, List<OutboxMessage> delivered) {
+        List<CompletableFuture<?>> sends = new ArrayList<>(messages.size());
+        for (OutboxMessage message : messages) {
+            try {
+                sends.add(kafkaProducer.sendMessage(read(message, NotificationRequest.class)));
+            } catch (Exception e) {
+                sends.add(CompletableFuture.failedFuture(e));
+            }
+        }
+        for (int i = 0; i < messages.size(); i++) {
+            OutboxMessage message = messages.get(i);
+            CompletableFuture<?> send = sends.get(i);
+            deliver(message, delivered, () -> send.get(kafkaTimeoutMillis, TimeUnit.MILLISECONDS));
+        }
+    }
+
+    private void deliver(OutboxMessage message, List<OutboxMessage> delivered, Delivery delivery) {
+        try {
+            delivery.run();
+            delivered.add(message);
+        } catch (Exception e) {
+            failed(message, e);
+        }
+    }
+
+    private void failed(OutboxMessage message, Exception e) {
+        int attempts = message.getAttempts() + 1;
+        message.setAttempts(attempts);
+        message.setLastError(truncate(String.valueOf(e.getMessage())));
+        if (attempts >= maxAttempts) {
+            message.setDead(true);
+            log.error("Outbox message {} ({}) for key={} gave up after {} attempts: {}",
+                    message.getId(), message.getType(), message.getAggregateKey(), attempts, e.getMessage());
+            return;
+        }
+        long backoff = Math.min(maxBackoffMillis, backoffMillis << Math.min(attempts - 1, 20));
+        message.setNextAttemptAt(LocalDateTime.now().plusNanos(backoff * 1_000_000));
+        log.warn("Outbox message {} ({}) for key={} failed, attempt {}, retry in {} ms: {}",
+                message.getId(), message.getType(), message.getAggregateKey(), attempts, backoff, e.getMessage());
+    }
+
+    private <T> T read(OutboxMessage message, Class<T> type) throws IOException {
+        return objectMapper.readValue(message.getPayload(), type);
+    }
+
+    private static String truncate(String value) {
+        return value.length() <= 1000 ? value : value.substring(0, 1000);
+    }
+
+    @FunctionalInterface
+    private interface Delivery {
+        void run() throws Exception;
+    }
+}
@@ -0,0 +1,74 @@
+package com.oleksandr.monolith.outbox.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oleksandr.common.notification.NotificationRequest;
+import com.oleksandr.monolith.integration.wrapper.reservationIntegration.ReservationRequestDto;
+import com.oleksandr.monolith.outbox.model.OUTBOX_MESSAGE_TYPE;
+import com.oleksandr.monolith.outbox.model.OutboxMessage;
+import com.oleksandr.monolith.outbox.repository.OutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Records outgoing calls to EventProvider and Kafka in the caller's transaction.
+ * {@link com.oleksandr.monolith.outbox.scheduled.OutboxRelay} delivers them after commit.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reservationCreated(UUID ticketId, UUID bookingId) {
+        enqueue(OUTBOX_MESSAGE_TYPE.RESERVATION_CREATED, ticketId.toString(), new ReservationRequestDto(ticketId, bookingId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reservationsCreated(List<ReservationRequestDto> requests) {
+        outboxRepository.saveAll(requests.stream()
+                .map(r -> message(OUTBOX_MESSAGE_TYPE.RESERVATION_CREATED, r.ticketId().toString(), r))
+                .toList());
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reservationCancelled(UUID ticketId, UUID bookingId) {
+        enqueue(OUTBOX_MESSAGE_TYPE.RESERVATION_CANCELLED, ticketId.toString(), new ReservationRequestDto(ticketId, bookingId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reservationConfirmed(UUID ticketId, UUID bookingId) {
+        enqueue(OUTBOX_MESSAGE_TYPE.RESERVATION_CONFIRMED, ticketId.toString(), new ReservationRequestDto(ticketId, bookingId));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void mailNotification(NotificationRequest request) {
+        enqueue(OUTBOX_MESSAGE_TYPE.MAIL_NOTIFICATION, request.userForMailDTO().mailAddress(), request);
+    }
+
+    private void enqueue(OUTBOX_MESSAGE_TYPE type, String key, Object payload) {
+        outboxRepository.save(message(type, key, payload));
+        log.debug("Outbox message {} enqueued for key={}", type, key);
+    }
+
+    private OutboxMessage message(OUTBOX_MESSAGE_TYPE type, String key, Object payload) {
+        try {
+            return OutboxMessage.builder()
+                    .type(type)
+                    .aggregateKey(key)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize outbox payload of type " + type, e);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.oleksandr.monolith.payU.client;
 
+import com.oleksandr.monolith.metrics.BookingMetrics;
 import com.oleksandr.monolith.payU.input.dto.PayUAuthResponseDTO;
 import com.oleksandr.monolith.payU.output.PayUOrderRequestDTO;
 import com.oleksandr.monolith.payU.input.dto.PayUOrderResponseDTO;
@@ -21,6 +22,7 @@
 public class PayUClient {
 
     private final WebClient webClient;
+    private final BookingMetrics bookingMetrics;
 
     @Value("${payu.client.id}")
     private String payuClientId;
@@ -31,7 +33,9 @@ public class PayUClient {
     @Value("${payu.client.secret}")
     private String payuClientSecret;
 
-    public PayUClient(WebClient.Builder webClientBuilder, @Value("${payu.base.url}") String payuBaseUrl) {
+    public PayUClient(WebClient.Builder webClientBuilder, @Value("${payu.base.url}") String payuBaseUrl,
+                      BookingMetrics bookingMetrics) {
+        this.bookingMetrics = bookingMetrics;
         HttpClient httpClient = HttpClient.create().followRedirect(false);
         
         this.webClient = webClientBuilder
@@ -48,7 +52,7 @@ public PayUAuthResponseDTO getAccessToken() {
         formData.add("client_secret", payuClientSecret);
 
         try {
-            return this.webClient
+            return bookingMetrics.time(BookingMetrics.PAYU_TOKEN, () -> this.webClient
                     .post()
                     .uri("/pl/standard/user/oauth/authorize")
                     .contentType(MediaType.APPLICATION_FORM_URLENCODED)
@@ -66,7 +70,7 @@ public PayUAuthResponseDTO getAccessToken() {
                             }
                     )
                     .bodyToMono(PayUAuthResponseDTO.class)
-                    .block();
+                    .block());
 
         } catch (Exception e) {
             log.error("Failed to get Access Token from PayU: {}", e.getMessage());
@@ -111,7 +115,7 @@ public PayUOrderResponseDTO createOrder(PayUOrderRequestDTO orderRequest, String
         }
 
         try {
-            return this.webClient
+            return bookingMetrics.time(BookingMetrics.PAYU_ORDER, () -> this.webClient
                     .post()
                     .uri("/api/v2_1/orders")
                     .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
@@ -132,7 +136,7 @@ else if (response.statusCode().isError()) {
                             return response.bodyToMono(PayUOrderResponseDTO.class);
                         }
                     })
-                    .block();
+                    .block());
 
         } catch (Exception e) {
             log.error("An unexpected error occurred while creating PayU order: {}", e.getMessage(), e);
@@ -1,5 +1,6 @@
 package com.oleksandr.monolith.payU.model;
 
+import com.oleksandr.common.id.GeneratedUuidV7;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -17,7 +18,7 @@
 public class ProcessedPayUNotification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.UUID)
+    @GeneratedUuidV7
     private UUID id;
 
     @Column(name = "payu_order_id", unique = true, nullable = false, length = 100)
@@ -1,14 +1,13 @@
 package com.oleksandr.monolith.scheduled;
 
-import com.oleksandr.common.dto.EventDTO;
 import com.oleksandr.monolith.event.service.impl.EventSyncService;
 import com.oleksandr.monolith.integration.wrapper.syncEvents.api.WrapperService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-
-import java.util.List;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 @Slf4j
 @Component
@@ -19,20 +18,25 @@ public class EventSyncScheduler {
     private final EventSyncService eventSyncService;
 
 
+    // Pages are written one at a time, each in its own transaction, while the next one is fetched
     @Scheduled(fixedDelayString = "${scheduler.delay:120000}")
     public void syncEventsSingleCall() {
         try {
             log.info("🔄 Starting event synchronization from EventProvider...");
-            List<EventDTO> all = wrapperService.fetchExternalEvents();
-            
-            if (all == null || all.isEmpty()) {
+            Integer synced = wrapperService.streamExternalEvents()
+                    .concatMap(page -> Mono.fromCallable(() -> {
+                        eventSyncService.syncAll(page);
+                        return page.size();
+                    }).subscribeOn(Schedulers.boundedElastic()), 1)
+                    .reduce(0, Integer::sum)
+                    .block();
+
+            if (synced == null || synced == 0) {
                 log.warn("⚠️ No events received from EventProvider");
                 return;
             }
-            
-            log.info("✅ Received {} events from EventProvider, syncing to local database...", all.size());
-            eventSyncService.syncAll(all);
-            log.info("✅ Event synchronization completed successfully. Synced {} events.", all.size());
+
+            log.info("✅ Event synchronization completed successfully. Synced {} events.", synced);
         } catch (Exception e) {
             log.error("❌ Error during event synchronization: {}", e.getMessage(), e);
         }
@@ -1,8 +1,10 @@
 package com.oleksandr.monolith.ticket.Service.api;
 
+import com.oleksandr.common.dto.TicketDTO;
 import com.oleksandr.monolith.ticket.model.Ticket;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface TicketService {
@@ -10,6 +12,9 @@ public interface TicketService {
     @Transactional
     Ticket reserveTicket(UUID ticketId);
 
+    @Transactional
+    List<Ticket> reserveTickets(List<UUID> ticketIds);
+
     @Transactional
     void markAvailable(Ticket ticket);
 
@@ -21,4 +26,7 @@ public interface TicketService {
 
     @Transactional(readOnly = true)
     boolean isTicketAvailable(UUID ticketId);
+
+    @Transactional(readOnly = true)
+    List<TicketDTO> getTicketsByEventId(UUID eventId);
 }
@@ -1,18 +1,25 @@
 package com.oleksandr.monolith.ticket.Service.impl;
 
+import com.oleksandr.common.dto.TicketDTO;
 import com.oleksandr.common.enums.TICKET_STATUS;
+import com.oleksandr.monolith.metrics.BookingMetrics;
 import com.oleksandr.monolith.ticket.Service.api.TicketService;
+import com.oleksandr.monolith.ticket.inventory.TicketInventory;
 import com.oleksandr.monolith.ticket.model.Ticket;
 import com.oleksandr.monolith.ticket.repository.TicketRepository;
 import com.oleksandr.monolith.common.exceptions.ResourceNotFoundException;
 import com.oleksandr.monolith.common.exceptions.TicketNotAvailableException;
-import jakarta.persistence.OptimisticLockException;
+import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.dao.OptimisticLockingFailureException;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 @Slf4j
@@ -20,91 +27,130 @@
 public class TicketServiceImpl implements TicketService {
 
     private final TicketRepository ticketRepository;
+    private final TicketInventory ticketInventory;
+    private final EntityManager entityManager;
+    private final BookingMetrics bookingMetrics;
 
-    @Value("${ticket.service.retry-count:3}")
-    private int maxAttempts;
-
-    public TicketServiceImpl(TicketRepository ticketRepository) {
+    public TicketServiceImpl(TicketRepository ticketRepository, TicketInventory ticketInventory,
+                             EntityManager entityManager, BookingMetrics bookingMetrics) {
         this.ticketRepository = ticketRepository;
+        this.ticketInventory = ticketInventory;
+        this.entityManager = entityManager;
+        this.bookingMetrics = bookingMetrics;
     }
 
     @Transactional
     @Override
     public Ticket reserveTicket(UUID ticketId) {
-        int attempt = 0;
-
-        while (true) {
-            try {
-                return reserveOnce(ticketId);
-            } catch (OptimisticLockException | OptimisticLockingFailureException ex) {
-                attempt++;
-
-                if (attempt >= maxAttempts) {
-                    log.error(
-                            "Failed to reserve ticket after {} attempts, ticketId={}",
-                            attempt, ticketId
-                    );
-                    throw ex;
-                }
-
-                log.warn(
-                        "Optimistic lock while reserving ticket, retry attempt={}, ticketId={}",
-                        attempt, ticketId
-                );
-
-                delay(attempt);
-            }
-        }
-    }
-
-    private void delay(int attempt) {
+        claim(ticketId);
         try {
-            Thread.sleep(50L * attempt);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new IllegalStateException("Retry interrupted", e);
+            Ticket reserved = reserveOnce(ticketId);
+            ticketInventory.releaseOnRollback(ticketId);
+            return reserved;
+        } catch (TicketNotAvailableException ex) {
+            throw ex;
+        } catch (RuntimeException ex) {
+            ticketInventory.release(ticketId);
+            throw ex;
         }
     }
 
     private Ticket reserveOnce(UUID ticketId) {
         log.info("Attempting to reserve ticketId={}", ticketId);
 
-        Ticket ticket = findById(ticketId);
-
-        if (ticket.getStatus() != TICKET_STATUS.AVAILABLE) {
+        int updated = ticketRepository.compareAndSetStatus(ticketId, TICKET_STATUS.AVAILABLE, TICKET_STATUS.RESERVED);
+        if (updated == 0) {
+            TICKET_STATUS status = currentState(findById(ticketId)).getStatus();
             log.warn(
                     "Ticket {} is not available. Current status: {}",
-                    ticketId, ticket.getStatus()
+                    ticketId, status
             );
+            ticketInventory.record(ticketId, status);
+            bookingMetrics.conflict("ticket_cas");
             throw new TicketNotAvailableException("Ticket not available: " + ticketId);
         }
 
-        ticket.setStatus(TICKET_STATUS.RESERVED);
-        Ticket savedTicket = ticketRepository.saveAndFlush(ticket);
-
         log.info("Ticket {} successfully reserved", ticketId);
-        return savedTicket;
+        return currentState(ticketRepository.getReferenceById(ticketId));
     }
 
+    /**
+     * Reserves all tickets or none. Seats are claimed in memory first, then moved in a single
+     * UPDATE; if any of them was not AVAILABLE the exception rolls the whole statement back.
+     */
+    @Transactional
+    @Override
+    public List<Ticket> reserveTickets(List<UUID> ticketIds) {
+        log.info("Attempting to reserve {} tickets: {}", ticketIds.size(), ticketIds);
+
+        List<UUID> claimed = new ArrayList<>(ticketIds.size());
+        try {
+            for (UUID ticketId : ticketIds) {
+                claim(ticketId);
+                claimed.add(ticketId);
+            }
+        } catch (RuntimeException ex) {
+            claimed.forEach(ticketInventory::release);
+            throw ex;
+        }
+
+        List<UUID> reserved;
+        try {
+            reserved = ticketRepository.reserveAvailable(ticketIds);
+        } catch (RuntimeException ex) {
+            claimed.forEach(ticketInventory::release);
+            throw ex;
+        }
+
+        if (reserved.size() != ticketIds.size()) {
+            Set<UUID> unavailable = new LinkedHashSet<>(ticketIds);
+            reserved.forEach(unavailable::remove);
+            log.warn("Tickets {} are not available, rejecting batch of {}", unavailable, ticketIds.size());
+            bookingMetrics.conflict("ticket_cas");
+            // Seats the database refused stay taken in memory, the rest go back
+            claimed.stream()
+                    .filter(id -> !unavailable.contains(id))
+                    .forEach(ticketInventory::release);
+            throw new TicketNotAvailableException("Tickets not available: " + unavailable);
+        }
+
+        claimed.forEach(ticketInventory::releaseOnRollback);
+        log.info("{} tickets successfully reserved", reserved.size());
+        return ticketIds.stream()
+                .map(id -> currentState(ticketRepository.getReferenceById(id)))
+                .toList();
+    }
 
     @Transactional
     @Override
     public void markAvailable(Ticket ticket) {
         log.info("Marking ticket {} as AVAILABLE", ticket.getId());
-        ticket.setStatus(TICKET_STATUS.AVAILABLE);
-        ticketRepository.saveAndFlush(ticket);
+        int updated = ticketRepository.compareAndSetStatus(ticket.getId(), TICKET_STATUS.RESERVED, TICKET_STATUS.AVAILABLE);
+        currentState(ticket);
+        if (updated == 0) {
+            if (ticket.getStatus() == TICKET_STATUS.AVAILABLE) {
+                log.info("Ticket {} is already AVAILABLE", ticket.getId());
+                return;
+            }
+            log.warn("Ticket {} cannot be released. Current status: {}", ticket.getId(), ticket.getStatus());
+            bookingMetrics.conflict("ticket_cas");
+            throw new TicketNotAvailableException("Ticket cannot be released: " + ticket.getId());
+        }
+        ticketInventory.recordAfterCommit(ticket.getId(), TICKET_STATUS.AVAILABLE);
     }
 
     @Transactional
     @Override
     public void markSold(Ticket ticket) {
         log.info("Marking ticket {} as SOLD", ticket.getId());
-        if (ticket.getStatus() == TICKET_STATUS.SOLD) {
+        int updated = ticketRepository.updateStatusUnless(ticket.getId(), TICKET_STATUS.SOLD, TICKET_STATUS.SOLD);
+        currentState(ticket);
+        if (updated == 0) {
             log.warn("Ticket {} is already SOLD", ticket.getId());
+            bookingMetrics.conflict("ticket_cas");
             throw new TicketNotAvailableException("Ticket already sold: " + ticket.getId());
         }
-        ticket.setStatus(TICKET_STATUS.SOLD);
-        ticketRepository.saveAndFlush(ticket);
+        ticketInventory.recordAfterCommit(ticket.getId(), TICKET_STATUS.SOLD);
     }
 
     @Transactional(readOnly = true)
@@ -125,4 +171,31 @@ public boolean isTicketAvailable(UUID ticketId) {
         log.debug("Ticket {} availability: {}", ticketId, available);
         return available;
     }
-}
\ No newline at end of file
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<TicketDTO> getTicketsByEventId(UUID eventId) {
+        // Sorted here, not in SQL: PostgreSQL orders uuids differently from the seat indexes
+        return ticketRepository.findDtosByEventId(eventId).stream()
+                .sorted(Comparator.comparing(TicketDTO::id, TicketInventory.SEAT_ORDER))
+                .toList();
+    }
+
+    private void claim(UUID ticketId) {
+        try {
+            ticketInventory.claim(ticketId);
+        } catch (TicketNotAvailableException ex) {
+            bookingMetrics.conflict("ticket_inventory");
+            throw ex;
+        }
+    }
+
+    // Bulk updates bypass the persistence context, so an already loaded instance is re-read
+    // to pick up the new status and version. Uninitialized proxies load fresh state on first access.
+    private Ticket currentState(Ticket ticket) {
+        if (Hibernate.isInitialized(ticket) && entityManager.contains(ticket)) {
+            entityManager.refresh(ticket);
+        }
+        return ticket;
+    }
+}
@@ -0,0 +1,156 @@
+package com.oleksandr.monolith.ticket.inventory;
+
+import com.oleksandr.common.enums.TICKET_STATUS;
+import com.oleksandr.monolith.ticket.model.Ticket;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Seat statuses of a single event. Seat index is the position of the ticket id
+ * in {@link TicketInventory#SEAT_ORDER}, statuses are stored as {@link TICKET_STATUS} ordinals.
+ * Every status change takes a version from the shared clock and is kept in a bounded
+ * change log, so seat maps can be served as deltas since a version.
+ */
+final class EventInventory {
+
+    private static final TICKET_STATUS[] STATUSES = TICKET_STATUS.values();
+    static final int CHANGE_LOG_SIZE = 1024;
+
+    private final UUID eventId;
+    private final UUID[] ticketIds;
+    private final byte[] statuses;
+    private final AtomicLong clock;
+    private int available;
+
+    private final long loadedVersion;
+    private long version;
+    // changes at or below this version are no longer in the log
+    private long truncatedVersion;
+    private final int[] changedSeats = new int[CHANGE_LOG_SIZE];
+    private final long[] changeVersions = new long[CHANGE_LOG_SIZE];
+    private long changeCount;
+
+    private EventInventory(UUID eventId, UUID[] ticketIds, byte[] statuses, AtomicLong clock) {
+        this.eventId = eventId;
+        this.ticketIds = ticketIds;
+        this.statuses = statuses;
+        this.clock = clock;
+        this.loadedVersion = clock.incrementAndGet();
+        this.version = loadedVersion;
+        this.truncatedVersion = loadedVersion;
+        for (byte status : statuses) {
+            if (status == TICKET_STATUS.AVAILABLE.ordinal()) available++;
+        }
+    }
+
+    static EventInventory of(UUID eventId, List<Ticket> tickets, AtomicLong clock) {
+        Ticket[] sorted = tickets.stream()
+                .filter(t -> t.getId() != null)
+                .sorted(Comparator.comparing(Ticket::getId, TicketInventory.SEAT_ORDER))
+                .toArray(Ticket[]::new);
+
+        UUID[] ids = new UUID[sorted.length];
+        byte[] statuses = new byte[sorted.length];
+        for (int i = 0; i < sorted.length; i++) {
+            ids[i] = sorted[i].getId();
+            TICKET_STATUS status = sorted[i].getStatus() != null ? sorted[i].getStatus() : TICKET_STATUS.AVAILABLE;
+            statuses[i] = (byte) status.ordinal();
+        }
+        return new EventInventory(eventId, ids, statuses, clock);
+    }
+
+    UUID eventId() {
+        return eventId;
+    }
+
+    int size() {
+        return ticketIds.length;
+    }
+
+    UUID ticketIdAt(int seat) {
+        return ticketIds[seat];
+    }
+
+    int seatOf(UUID ticketId) {
+        return Arrays.binarySearch(ticketIds, ticketId);
+    }
+
+    synchronized int availableCount() {
+        return available;
+    }
+
+    synchronized TICKET_STATUS statusAt(int seat) {
+        return STATUSES[statuses[seat]];
+    }
+
+    synchronized boolean compareAndSet(int seat, TICKET_STATUS expected, TICKET_STATUS update) {
+        if (statuses[seat] != expected.ordinal()) return false;
+        write(seat, update);
+        return true;
+    }
+
+    synchronized void set(int seat, TICKET_STATUS update) {
+        write(seat, update);
+    }
+
+    synchronized byte[] snapshot() {
+        return statuses.clone();
+    }
+
+    /**
+     * Full run-length map, or the seats changed after {@code sinceVersion} when the log still covers it.
+     */
+    SeatMap seatMap(Long sinceVersion) {
+        byte[] current;
+        long currentVersion;
+        int[] changed = null;
+        synchronized (this) {
+            current = statuses.clone();
+            currentVersion = version;
+            if (sinceVersion != null && sinceVersion >= truncatedVersion && sinceVersion <= version) {
+                changed = changedSince(sinceVersion);
+            }
+        }
+        if (changed == null) {
+            return new SeatMap(eventId, currentVersion, current.length, false, SeatMapCodec.encodeRuns(current));
+        }
+        return new SeatMap(eventId, currentVersion, current.length, true, SeatMapCodec.encodeChanges(changed, current));
+    }
+
+    private int[] changedSince(long sinceVersion) {
+        int logged = (int) Math.min(changeCount, CHANGE_LOG_SIZE);
+        BitSet seats = new BitSet(ticketIds.length);
+        for (int i = 1; i <= logged; i++) {
+            int slot = (int) ((changeCount - i) % CHANGE_LOG_SIZE);
+            if (changeVersions[slot] <= sinceVersion) break;
+            seats.set(changedSeats[slot]);
+        }
+        return seats.stream().toArray();
+    }
+
+    private void write(int seat, TICKET_STATUS update) {
+        if (statuses[seat] == update.ordinal()) return;
+        boolean wasAvailable = statuses[seat] == TICKET_STATUS.AVAILABLE.ordinal();
+        boolean isAvailable = update == TICKET_STATUS.AVAILABLE;
+        if (wasAvailable && !isAvailable) available--;
+        if (!wasAvailable && isAvailable) available++;
+        statuses[seat] = (byte) update.ordinal();
+        logChange(seat);
+    }
+
+    private void logChange(int seat) {
+        int slot = (int) (changeCount % CHANGE_LOG_SIZE);
+        if (changeCount >= CHANGE_LOG_SIZE) {
+            truncatedVersion = changeVersions[slot];
+        }
+        version = clock.incrementAndGet();
+        changedSeats[slot] = seat;
+        changeVersions[slot] = version;
+        changeCount++;
+    }
+}
@@ -0,0 +1,15 @@
+package com.oleksandr.monolith.ticket.inventory;
+
+import java.util.UUID;
+
+/**
+ * Seat statuses of an event at {@code version}. A full map holds {@link SeatMapCodec#encodeRuns runs},
+ * a delta holds only the {@link SeatMapCodec#encodeChanges seats changed} since the requested version.
+ */
+public record SeatMap(
+        UUID eventId,
+        long version,
+        int seats,
+        boolean delta,
+        byte[] data
+) {}
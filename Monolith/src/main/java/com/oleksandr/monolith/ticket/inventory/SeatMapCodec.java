@@ -0,0 +1,83 @@
+package com.oleksandr.monolith.ticket.inventory;
+
+import java.io.ByteArrayOutputStream;
+
+/**
+ * Binary encodings of seat maps. Seats are indexed by ascending ticket id, statuses are
+ * {@link com.oleksandr.common.enums.TICKET_STATUS} ordinals and counts are unsigned LEB128 varints.
+ * <ul>
+ *     <li>runs: {@code [status][varint length]} repeated until all seats are covered</li>
+ *     <li>changes: {@code [varint gap to previous changed seat][status]} in ascending seat order</li>
+ * </ul>
+ */
+final class SeatMapCodec {
+
+    private SeatMapCodec() {
+    }
+
+    static byte[] encodeRuns(byte[] statuses) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int seat = 0;
+        while (seat < statuses.length) {
+            byte status = statuses[seat];
+            int end = seat + 1;
+            while (end < statuses.length && statuses[end] == status) end++;
+            out.write(status);
+            writeVarint(out, end - seat);
+            seat = end;
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] encodeChanges(int[] seats, byte[] statuses) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int previous = 0;
+        for (int seat : seats) {
+            writeVarint(out, seat - previous);
+            out.write(statuses[seat]);
+            previous = seat;
+        }
+        return out.toByteArray();
+    }
+
+    static byte[] decodeRuns(byte[] data, int seats) {
+        byte[] statuses = new byte[seats];
+        int[] pos = {0};
+        int seat = 0;
+        while (pos[0] < data.length) {
+            byte status = data[pos[0]++];
+            int length = readVarint(data, pos);
+            for (int i = 0; i < length; i++) statuses[seat++] = status;
+        }
+        return statuses;
+    }
+
+    static void applyChanges(byte[] statuses, byte[] data) {
+        int[] pos = {0};
+        int seat = 0;
+        while (pos[0] < data.length) {
+            seat += readVarint(data, pos);
+            statuses[seat] = data[pos[0]++];
+        }
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, int value) {
+        while ((value & ~0x7F) != 0) {
+            out.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.write(value);
+    }
+
+    private static int readVarint(byte[] data, int[] pos) {
+        int value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = data[pos[0]++];
+            value |= (b & 0x7F) << shift;
+            shift += 7;
+        } while ((b & 0x80) != 0);
+        return value;
+    }
+}
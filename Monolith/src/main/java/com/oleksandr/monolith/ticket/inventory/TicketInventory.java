@@ -0,0 +1,210 @@
+package com.oleksandr.monolith.ticket.inventory;
+
+import com.oleksandr.common.enums.TICKET_STATUS;
+import com.oleksandr.monolith.common.exceptions.ResourceNotFoundException;
+import com.oleksandr.monolith.common.exceptions.TicketNotAvailableException;
+import com.oleksandr.monolith.ticket.model.Ticket;
+import com.oleksandr.monolith.ticket.repository.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory view of ticket statuses per event. Reservations claim a seat here first,
+ * so requests for sold-out or already reserved seats are rejected without touching JPA.
+ * The database stays the source of truth: events are loaded lazily from
+ * {@link TicketRepository#findAllByEventId(UUID)} and evicted whenever their tickets
+ * are rewritten outside of the reservation path.
+ */
+@Slf4j
+@Component
+public class TicketInventory {
+
+    /**
+     * Order of the seat indexes: Java's {@link UUID#compareTo}, which compares the halves as signed longs
+     * and so differs from PostgreSQL's unsigned uuid order. Lists that line up with seat maps sort with it.
+     */
+    public static final Comparator<UUID> SEAT_ORDER = Comparator.naturalOrder();
+
+    private final TicketRepository ticketRepository;
+
+    private final Map<UUID, EventInventory> events = new ConcurrentHashMap<>();
+    private final Map<UUID, UUID> eventByTicket = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+    // Seat map versions, seeded from the wall clock so they keep growing across restarts
+    private final AtomicLong versions = new AtomicLong(System.currentTimeMillis() * 1000);
+
+    public TicketInventory(TicketRepository ticketRepository) {
+        this.ticketRepository = ticketRepository;
+    }
+
+    /**
+     * Moves the seat from AVAILABLE to RESERVED in memory.
+     * Throws {@link TicketNotAvailableException} when the seat is already taken.
+     */
+    public void claim(UUID ticketId) {
+        EventInventory inventory = inventoryOf(ticketId);
+        int seat = inventory.seatOf(ticketId);
+        if (seat < 0) {
+            return;
+        }
+        if (inventory.availableCount() == 0) {
+            log.debug("Event {} is sold out, rejecting ticketId={}", inventory.eventId(), ticketId);
+            throw new TicketNotAvailableException("Ticket not available: " + ticketId);
+        }
+        if (!inventory.compareAndSet(seat, TICKET_STATUS.AVAILABLE, TICKET_STATUS.RESERVED)) {
+            log.debug("Ticket {} rejected in memory, status={}", ticketId, inventory.statusAt(seat));
+            throw new TicketNotAvailableException("Ticket not available: " + ticketId);
+        }
+    }
+
+    /**
+     * Gives back a seat taken by {@link #claim(UUID)} when the reservation did not reach the database.
+     */
+    public void release(UUID ticketId) {
+        EventInventory inventory = loadedInventoryOf(ticketId);
+        if (inventory == null) return;
+        int seat = inventory.seatOf(ticketId);
+        if (seat >= 0) {
+            inventory.compareAndSet(seat, TICKET_STATUS.RESERVED, TICKET_STATUS.AVAILABLE);
+            changes.incrementAndGet();
+        }
+    }
+
+    public void record(UUID ticketId, TICKET_STATUS status) {
+        changes.incrementAndGet();
+        EventInventory inventory = loadedInventoryOf(ticketId);
+        if (inventory == null) return;
+        int seat = inventory.seatOf(ticketId);
+        if (seat >= 0) {
+            inventory.set(seat, status);
+        }
+    }
+
+    /**
+     * Releases the claimed seat again if the surrounding transaction rolls back.
+     */
+    public void releaseOnRollback(UUID ticketId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    release(ticketId);
+                } else if (status == STATUS_UNKNOWN) {
+                    evictEventOf(ticketId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Applies the status once the surrounding transaction commits, or immediately without one.
+     */
+    public void recordAfterCommit(UUID ticketId, TICKET_STATUS status) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(ticketId, status);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(ticketId, status);
+            }
+        });
+    }
+
+    public void evict(UUID eventId) {
+        changes.incrementAndGet();
+        EventInventory removed = events.remove(eventId);
+        if (removed != null) {
+            for (int seat = 0; seat < removed.size(); seat++) {
+                eventByTicket.remove(removed.ticketIdAt(seat), eventId);
+            }
+            log.debug("Ticket inventory evicted for eventId={}", eventId);
+        }
+    }
+
+    public void evictAfterCommit(UUID eventId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(eventId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                evict(eventId);
+            }
+        });
+    }
+
+    /**
+     * Seat statuses of the event, as a delta when {@code sinceVersion} is still covered by
+     * the in-memory change log and as a full run-length map otherwise.
+     */
+    public SeatMap seatMap(UUID eventId, Long sinceVersion) {
+        return inventoryOfEvent(eventId).seatMap(sinceVersion);
+    }
+
+    private void evictEventOf(UUID ticketId) {
+        UUID eventId = eventByTicket.get(ticketId);
+        if (eventId != null) evict(eventId);
+    }
+
+    private EventInventory loadedInventoryOf(UUID ticketId) {
+        UUID eventId = eventByTicket.get(ticketId);
+        return eventId != null ? events.get(eventId) : null;
+    }
+
+    /**
+     * Event of the ticket, answered from memory when its event is loaded.
+     */
+    public UUID eventIdOf(UUID ticketId) {
+        UUID eventId = eventByTicket.get(ticketId);
+        if (eventId != null) return eventId;
+
+        return ticketRepository.findEventIdById(ticketId)
+                .orElseThrow(() -> {
+                    log.warn("Ticket not found with ID: {}", ticketId);
+                    return new ResourceNotFoundException("Ticket not found: " + ticketId);
+                });
+    }
+
+    private EventInventory inventoryOf(UUID ticketId) {
+        EventInventory inventory = loadedInventoryOf(ticketId);
+        if (inventory != null) return inventory;
+
+        return inventoryOfEvent(eventIdOf(ticketId));
+    }
+
+    EventInventory inventoryOfEvent(UUID eventId) {
+        EventInventory cached = events.get(eventId);
+        if (cached != null) return cached;
+
+        long stamp = changes.get();
+        List<Ticket> tickets = ticketRepository.findAllByEventId(eventId);
+        EventInventory loaded = EventInventory.of(eventId, tickets, versions);
+
+        // A status committed while we were reading may be missing from the snapshot,
+        // so only publish it when nothing changed in between.
+        if (changes.get() != stamp) {
+            log.debug("Ticket inventory for eventId={} changed while loading, not caching", eventId);
+            return loaded;
+        }
+
+        EventInventory winner = events.computeIfAbsent(eventId, id -> loaded);
+        for (int seat = 0; seat < winner.size(); seat++) {
+            eventByTicket.put(winner.ticketIdAt(seat), eventId);
+        }
+        log.debug("Ticket inventory loaded for eventId={}, tickets={}", eventId, winner.size());
+        return winner;
+    }
+}
@@ -1,12 +1,53 @@
 package com.oleksandr.monolith.ticket.repository;
 
+import com.oleksandr.common.dto.TicketDTO;
+import com.oleksandr.common.enums.TICKET_STATUS;
 import com.oleksandr.monolith.ticket.model.Ticket;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 public interface TicketRepository extends JpaRepository<Ticket, UUID> {
     List<Ticket> findAllByEventId(UUID eventId);
 
+    @Query("SELECT new com.oleksandr.common.dto.TicketDTO(t.id, t.event.id, t.type, t.price, t.place, t.status) " +
+           "FROM Ticket t WHERE t.event.id = :eventId")
+    List<TicketDTO> findDtosByEventId(@Param("eventId") UUID eventId);
+
+    @Query("SELECT t.event.id FROM Ticket t WHERE t.id = :ticketId")
+    Optional<UUID> findEventIdById(@Param("ticketId") UUID ticketId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Ticket t SET t.status = :to, t.version = t.version + 1 " +
+           "WHERE t.id = :ticketId AND t.status = :from")
+    int compareAndSetStatus(@Param("ticketId") UUID ticketId,
+                            @Param("from") TICKET_STATUS from,
+                            @Param("to") TICKET_STATUS to);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Ticket t SET t.status = :to, t.version = t.version + 1 " +
+           "WHERE t.id = :ticketId AND t.status <> :excluded")
+    int updateStatusUnless(@Param("ticketId") UUID ticketId,
+                           @Param("excluded") TICKET_STATUS excluded,
+                           @Param("to") TICKET_STATUS to);
+
+    // Native so the ids that actually moved come back in the same round trip. Rows are locked
+    // in the database's id order first, so overlapping batches queue up instead of deadlocking.
+    @Query(value = "WITH locked AS (SELECT id FROM tickets WHERE id IN (:ticketIds) AND status = 'AVAILABLE' " +
+                   "ORDER BY id FOR UPDATE) " +
+                   "UPDATE tickets t SET status = 'RESERVED', version = t.version + 1 " +
+                   "FROM locked WHERE t.id = locked.id RETURNING t.id",
+           nativeQuery = true)
+    List<UUID> reserveAvailable(@Param("ticketIds") Collection<UUID> ticketIds);
+
+    @Query(value = "UPDATE tickets SET status = 'AVAILABLE', version = version + 1 " +
+                   "WHERE id IN (:ticketIds) AND status = 'RESERVED' RETURNING id",
+           nativeQuery = true)
+    List<UUID> releaseReserved(@Param("ticketIds") Collection<UUID> ticketIds);
 }
@@ -1,5 +1,6 @@
 package com.oleksandr.monolith.user.input.controller;
 
+import com.oleksandr.common.dto.CursorPage;
 import com.oleksandr.monolith.booking.input.dto.BookingSummaryDTO;
 import com.oleksandr.monolith.coordinator.BookingCoordinator;
 import com.oleksandr.monolith.user.Service.api.UserService;
@@ -8,7 +9,6 @@
 import com.oleksandr.monolith.user.output.dto.UserSummaryDTO;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.UUID;
 
 @RestController
@@ -39,8 +39,12 @@ public UserSummaryDTO updateUserProfile(
 
 
     @GetMapping("/{id}/bookings")
-    public List<BookingSummaryDTO> getUserBookings(@PathVariable UUID id) {
-        return bookingCoordinator.getUserBookings(id);
+    public CursorPage<BookingSummaryDTO> getUserBookings(
+            @PathVariable UUID id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        return bookingCoordinator.getUserBookings(id, cursor, size);
     }
 
 
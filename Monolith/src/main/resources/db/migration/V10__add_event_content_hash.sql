@@ -0,0 +1,2 @@
+-- Provider content hash of the last synced state, lets the sync skip unchanged events
+ALTER TABLE events ADD COLUMN IF NOT EXISTS content_hash VARCHAR(64);
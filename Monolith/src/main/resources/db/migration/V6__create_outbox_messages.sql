@@ -0,0 +1,18 @@
+-- Transactional outbox for EventProvider reservation calls and Kafka notifications
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id BIGSERIAL PRIMARY KEY,
+    type VARCHAR(50) NOT NULL,
+    aggregate_key VARCHAR(320) NOT NULL,
+    payload TEXT NOT NULL,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL DEFAULT NOW(),
+    last_error VARCHAR(1000),
+    dead BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_messages_key_id ON outbox_messages(aggregate_key, id);
+CREATE INDEX IF NOT EXISTS idx_outbox_messages_next_attempt ON outbox_messages(next_attempt_at);
+
+COMMENT ON TABLE outbox_messages IS 'Outgoing EventProvider calls and Kafka messages, written in the booking transaction';
+COMMENT ON COLUMN outbox_messages.aggregate_key IS 'Ordering key: ticket id for reservations, mail address for notifications';
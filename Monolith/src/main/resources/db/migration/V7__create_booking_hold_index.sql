@@ -0,0 +1,4 @@
+-- Open booking holds by age, used by the hold expiry release and sweep
+CREATE INDEX IF NOT EXISTS idx_bookings_open_holds_created_at
+    ON bookings(created_at)
+    WHERE status IN ('CREATED', 'WAITING_FOR_PAYMENT');
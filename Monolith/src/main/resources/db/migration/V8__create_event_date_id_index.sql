@@ -0,0 +1,3 @@
+-- Keyset pagination of the event catalog by (event_date, id)
+CREATE INDEX IF NOT EXISTS idx_events_event_date_id
+    ON events(event_date, id);
@@ -0,0 +1,3 @@
+-- Keyset pagination of a user's bookings by (created_at, id), newest first
+CREATE INDEX IF NOT EXISTS idx_bookings_user_created_at_id
+    ON bookings(user_id, created_at DESC, id DESC);
@@ -0,0 +1,80 @@
+package com.oleksandr.monolith.admission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionQueueTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private AdmissionQueue queue;
+
+    @BeforeEach
+    void setUp() {
+        queue = new AdmissionQueue(UUID.randomUUID(), 2, 1, 0);
+    }
+
+    @Test
+    void join_shouldKeepPositionForSameUser() {
+        // Given
+        UUID userId = UUID.randomUUID();
+
+        // When
+        long first = queue.join(userId, 0);
+        queue.join(UUID.randomUUID(), 0);
+        long second = queue.join(userId, 0);
+
+        // Then
+        assertEquals(0, first);
+        assertEquals(first, second);
+    }
+
+    @Test
+    void isAdmitted_shouldAdmitBurstImmediatelyAndRestAtRate() {
+        // Given
+        long first = queue.join(UUID.randomUUID(), 0);
+        long second = queue.join(UUID.randomUUID(), 0);
+        long third = queue.join(UUID.randomUUID(), 0);
+
+        // When & Then
+        assertTrue(queue.isAdmitted(first, 0));
+        assertFalse(queue.isAdmitted(second, 0));
+        assertEquals(500, queue.waitMillis(second, 0));
+        assertTrue(queue.isAdmitted(second, SECOND / 2));
+        assertFalse(queue.isAdmitted(third, SECOND / 2));
+        assertTrue(queue.isAdmitted(third, SECOND));
+    }
+
+    @Test
+    void depth_shouldNotBankAdmissionsWhileIdle() {
+        // Given
+        queue.join(UUID.randomUUID(), 0);
+
+        // When
+        long late = 100 * SECOND;
+        long first = queue.join(UUID.randomUUID(), late);
+        long second = queue.join(UUID.randomUUID(), late);
+
+        // Then
+        assertTrue(queue.isAdmitted(first, late));
+        assertFalse(queue.isAdmitted(second, late));
+        assertEquals(1, queue.depth(late));
+    }
+
+    @Test
+    void closeIfIdle_shouldCloseOnlyAfterIdlePeriodAndRefuseJoins() {
+        // Given
+        queue.join(UUID.randomUUID(), 0);
+
+        // When & Then
+        assertFalse(queue.closeIfIdle(SECOND / 2, SECOND));
+        queue.join(UUID.randomUUID(), SECOND / 2);
+        assertFalse(queue.closeIfIdle(SECOND, SECOND));
+        assertTrue(queue.closeIfIdle(2 * SECOND, SECOND));
+        assertEquals(-1, queue.join(UUID.randomUUID(), 2 * SECOND));
+    }
+}
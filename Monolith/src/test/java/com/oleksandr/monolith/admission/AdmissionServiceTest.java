@@ -0,0 +1,131 @@
+package com.oleksandr.monolith.admission;
+
+import com.oleksandr.monolith.admission.output.dto.AdmissionStatusDTO;
+import com.oleksandr.monolith.common.exceptions.AdmissionRequiredException;
+import com.oleksandr.monolith.event.repository.EventRepository;
+import com.oleksandr.monolith.ticket.inventory.TicketInventory;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionServiceTest {
+
+    @Mock
+    private TicketInventory ticketInventory;
+    @Mock
+    private EventRepository eventRepository;
+
+    private final AdmissionTokenSigner tokenSigner = new AdmissionTokenSigner("test-admission-secret");
+    private SimpleMeterRegistry meterRegistry;
+
+    private UUID eventId;
+    private UUID userId;
+    private UUID ticketId;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        ticketId = UUID.randomUUID();
+    }
+
+    private AdmissionService service(long idleSeconds) {
+        return new AdmissionService(tokenSigner, ticketInventory, eventRepository, meterRegistry,
+                true, 50, 100, 600, idleSeconds);
+    }
+
+    @Test
+    void checkAdmission_shouldAcceptTokenOnlyOnce() {
+        // Given
+        AdmissionService admissionService = service(300);
+        when(ticketInventory.eventIdOf(ticketId)).thenReturn(eventId);
+        String token = tokenSigner.issue(eventId, userId, Instant.now().plusSeconds(60));
+
+        // When
+        admissionService.checkAdmission(userId, List.of(ticketId), token);
+
+        // Then
+        assertThrows(AdmissionRequiredException.class,
+                () -> admissionService.checkAdmission(userId, List.of(ticketId), token));
+    }
+
+    @Test
+    void releaseAdmission_shouldLetUserRetryAfterFailedBooking() {
+        // Given
+        AdmissionService admissionService = service(300);
+        when(ticketInventory.eventIdOf(ticketId)).thenReturn(eventId);
+        String token = tokenSigner.issue(eventId, userId, Instant.now().plusSeconds(60));
+        admissionService.checkAdmission(userId, List.of(ticketId), token);
+
+        // When
+        admissionService.releaseAdmission(token);
+
+        // Then
+        assertDoesNotThrow(() -> admissionService.checkAdmission(userId, List.of(ticketId), token));
+        assertThrows(AdmissionRequiredException.class,
+                () -> admissionService.checkAdmission(userId, List.of(ticketId), token));
+    }
+
+    @Test
+    void checkAdmission_shouldRejectInvalidTokenWithoutTicketLookup() {
+        // Given
+        AdmissionService admissionService = service(300);
+        String otherUsers = tokenSigner.issue(eventId, UUID.randomUUID(), Instant.now().plusSeconds(60));
+
+        // When & Then
+        assertThrows(AdmissionRequiredException.class,
+                () -> admissionService.checkAdmission(userId, List.of(ticketId), otherUsers));
+        assertThrows(AdmissionRequiredException.class,
+                () -> admissionService.checkAdmission(userId, List.of(ticketId), null));
+        verify(ticketInventory, never()).eventIdOf(any());
+    }
+
+    @Test
+    void checkAdmission_shouldNotSpendTokenOfAnotherEvent() {
+        // Given
+        AdmissionService admissionService = service(300);
+        UUID otherTicketId = UUID.randomUUID();
+        when(ticketInventory.eventIdOf(otherTicketId)).thenReturn(UUID.randomUUID());
+        when(ticketInventory.eventIdOf(ticketId)).thenReturn(eventId);
+        String token = tokenSigner.issue(eventId, userId, Instant.now().plusSeconds(60));
+
+        // When
+        assertThrows(AdmissionRequiredException.class,
+                () -> admissionService.checkAdmission(userId, List.of(otherTicketId), token));
+
+        // Then
+        assertDoesNotThrow(() -> admissionService.checkAdmission(userId, List.of(ticketId), token));
+    }
+
+    @Test
+    void cleanUp_shouldDropIdleQueueWithItsMeters() {
+        // Given
+        AdmissionService admissionService = service(0);
+        when(eventRepository.existsById(eventId)).thenReturn(true);
+        admissionService.enter(eventId, userId);
+        assertNotNull(meterRegistry.find("admission.queue.depth").tag("event", eventId.toString()).gauge());
+
+        // When
+        admissionService.cleanUp();
+
+        // Then
+        assertNull(meterRegistry.find("admission.queue.depth").tag("event", eventId.toString()).gauge());
+        assertNull(meterRegistry.find("admission.admitted").tag("event", eventId.toString()).counter());
+        AdmissionStatusDTO reopened = admissionService.enter(eventId, userId);
+        assertEquals(0, reopened.position());
+        assertNotNull(meterRegistry.find("admission.queue.depth").tag("event", eventId.toString()).gauge());
+    }
+}
@@ -0,0 +1,66 @@
+package com.oleksandr.monolith.admission;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionTokenSignerTest {
+
+    private AdmissionTokenSigner signer;
+    private UUID eventId;
+    private UUID userId;
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        signer = new AdmissionTokenSigner("test-admission-secret");
+        eventId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        now = Instant.parse("2025-01-01T12:00:00Z");
+    }
+
+    @Test
+    void verify_shouldAcceptIssuedToken() {
+        // Given
+        String token = signer.issue(eventId, userId, now.plusSeconds(60));
+
+        // When & Then
+        assertTrue(signer.verify(token, eventId, userId, now));
+    }
+
+    @Test
+    void verify_shouldRejectExpiredToken() {
+        // Given
+        String token = signer.issue(eventId, userId, now.plusSeconds(60));
+
+        // When & Then
+        assertFalse(signer.verify(token, eventId, userId, now.plusSeconds(61)));
+    }
+
+    @Test
+    void verify_shouldRejectTokenOfAnotherUserOrEvent() {
+        // Given
+        String token = signer.issue(eventId, userId, now.plusSeconds(60));
+
+        // When & Then
+        assertFalse(signer.verify(token, eventId, UUID.randomUUID(), now));
+        assertFalse(signer.verify(token, UUID.randomUUID(), userId, now));
+    }
+
+    @Test
+    void verify_shouldRejectTamperedOrMalformedToken() {
+        // Given
+        String token = signer.issue(eventId, userId, now.plusSeconds(60));
+        String forged = new AdmissionTokenSigner("other-secret").issue(eventId, userId, now.plusSeconds(60));
+
+        // When & Then
+        assertFalse(signer.verify(forged, eventId, userId, now));
+        assertFalse(signer.verify(token.substring(0, token.length() - 2), eventId, userId, now));
+        assertFalse(signer.verify("not-a-token", eventId, userId, now));
+        assertFalse(signer.verify(null, eventId, userId, now));
+    }
+}
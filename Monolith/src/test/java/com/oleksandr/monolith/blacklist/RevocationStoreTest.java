@@ -0,0 +1,166 @@
+package com.oleksandr.monolith.blacklist;
+
+import com.oleksandr.common.token.TokenDigest;
+import com.oleksandr.monolith.common.VerifiedTokenCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RevocationStoreTest {
+
+    @Mock
+    private BlacklistedTokenRepository blacklistRepository;
+    @Mock
+    private UserTokenRevocationRepository userRevocationRepository;
+    @Mock
+    private VerifiedTokenCache verifiedTokenCache;
+    @Mock
+    private Predicate<byte[]> database;
+    @Mock
+    private Function<UUID, Optional<Instant>> userDatabase;
+
+    private RevocationStore revocationStore;
+
+    @BeforeEach
+    void setUp() {
+        revocationStore = new RevocationStore(blacklistRepository, userRevocationRepository, verifiedTokenCache, 1000, 30000);
+    }
+
+    private BlacklistedToken row(String token, Instant expiresAt) {
+        return BlacklistedToken.builder()
+                .tokenHash(TokenDigest.sha256(token))
+                .blacklistedAt(Instant.now())
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    @Test
+    void isRevoked_shouldAskDatabaseUntilLoaded() {
+        // Given
+        when(database.test(any())).thenReturn(false);
+
+        // When
+        boolean result = revocationStore.isRevoked("token", database);
+
+        // Then
+        assertFalse(result);
+        verify(database).test(aryEq(TokenDigest.sha256("token")));
+    }
+
+    @Test
+    void isRevoked_shouldAnswerFromMemoryAfterLoad() {
+        // Given
+        when(blacklistRepository.findByBlacklistedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of(row("revoked", Instant.now().plusSeconds(3600))));
+        revocationStore.load();
+
+        // When
+        boolean revoked = revocationStore.isRevoked("revoked", database);
+        boolean clean = revocationStore.isRevoked("clean", database);
+
+        // Then
+        assertTrue(revoked);
+        assertFalse(clean);
+        verifyNoInteractions(database);
+        verify(verifiedTokenCache).evict(aryEq(TokenDigest.sha256("revoked")));
+    }
+
+    @Test
+    void revoke_shouldTakeEffectBeforeNextRefresh() {
+        // Given
+        when(blacklistRepository.findByBlacklistedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of());
+        revocationStore.load();
+
+        // When
+        revocationStore.revoke("logout", Instant.now().plusSeconds(3600));
+
+        // Then
+        assertTrue(revocationStore.isRevoked("logout", database));
+        verifyNoInteractions(database);
+    }
+
+    @Test
+    void isRevoked_shouldCompareIssuedAtWithUserEpoch() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        Instant revokedBefore = Instant.ofEpochMilli(1_700_000_000_500L);
+        when(userRevocationRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of(new UserTokenRevocation(userId, revokedBefore, Instant.now(),
+                        Instant.now().plusSeconds(3600))));
+        revocationStore.load();
+
+        // When
+        boolean before = revocationStore.isRevoked(userId, revokedBefore.toEpochMilli() - 1, userDatabase);
+        boolean after = revocationStore.isRevoked(userId, revokedBefore.toEpochMilli() + 1, userDatabase);
+        boolean otherUser = revocationStore.isRevoked(UUID.randomUUID(), 0, userDatabase);
+
+        // Then
+        assertTrue(before);
+        assertFalse(after);
+        assertFalse(otherUser);
+        verifyNoInteractions(userDatabase);
+    }
+
+    @Test
+    void isRevoked_shouldAcceptLoginRightAfterLogoutInSameSecond() {
+        // Given a token issued a moment before logout, then a login in the same millisecond as the epoch
+        UUID userId = UUID.randomUUID();
+        when(userRevocationRepository.findByRevokedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of());
+        revocationStore.load();
+        Instant logout = Instant.ofEpochMilli(1_700_000_000_000L);
+        long oldToken = logout.toEpochMilli() - 20;
+
+        // When
+        revocationStore.revokeUser(userId, logout, logout.plusSeconds(3600));
+
+        // Then
+        assertTrue(revocationStore.isRevoked(userId, oldToken, userDatabase));
+        assertFalse(revocationStore.isRevoked(userId, logout.toEpochMilli(), userDatabase));
+        assertFalse(revocationStore.isRevoked(userId, logout.toEpochMilli() + 999, userDatabase));
+    }
+
+    @Test
+    void isRevoked_shouldCompareMillisWithDatabaseEpochBeforeLoad() {
+        // Given
+        UUID userId = UUID.randomUUID();
+        Instant logout = Instant.ofEpochMilli(1_700_000_000_250L);
+        when(userDatabase.apply(userId)).thenReturn(Optional.of(logout));
+
+        // When & Then
+        assertTrue(revocationStore.isRevoked(userId, logout.toEpochMilli() - 1, userDatabase));
+        assertFalse(revocationStore.isRevoked(userId, logout.toEpochMilli(), userDatabase));
+    }
+
+    @Test
+    void refresh_shouldPruneExpiredTokens() {
+        // Given
+        when(blacklistRepository.findByBlacklistedAtGreaterThanEqualAndExpiresAtAfter(any(), any()))
+                .thenReturn(List.of());
+        revocationStore.load();
+        revocationStore.revoke("short-lived", Instant.now().minusSeconds(1));
+
+        // When
+        revocationStore.refresh();
+
+        // Then
+        assertFalse(revocationStore.isRevoked("short-lived", database));
+        verifyNoInteractions(database);
+    }
+}
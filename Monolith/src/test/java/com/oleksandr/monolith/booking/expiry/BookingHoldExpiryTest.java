@@ -0,0 +1,64 @@
+package com.oleksandr.monolith.booking.expiry;
+
+import com.oleksandr.monolith.booking.repository.BookingRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingHoldExpiryTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private BookingExpiryService bookingExpiryService;
+
+    private BookingHoldExpiry bookingHoldExpiry;
+
+    @BeforeEach
+    void setUp() {
+        bookingHoldExpiry = new BookingHoldExpiry(bookingRepository, bookingExpiryService, 0, 10, 500);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bookingHoldExpiry.stop();
+    }
+
+    @Test
+    void rebuild_shouldExpireDueHoldsOnItsOwnThread() {
+        // Given
+        UUID bookingId = UUID.randomUUID();
+        BookingHoldView hold = mock(BookingHoldView.class);
+        when(hold.getId()).thenReturn(bookingId);
+        when(hold.getCreatedAt()).thenReturn(LocalDateTime.now().minusMinutes(1));
+        when(bookingRepository.findByStatusIn(anyCollection())).thenReturn(List.of(hold));
+        AtomicReference<String> thread = new AtomicReference<>();
+        doAnswer(invocation -> {
+            thread.set(Thread.currentThread().getName());
+            return 1;
+        }).when(bookingExpiryService).expire(eq(List.of(bookingId)), any());
+
+        // When
+        bookingHoldExpiry.rebuild();
+
+        // Then
+        verify(bookingExpiryService, timeout(2000)).expire(eq(List.of(bookingId)), any());
+        assertEquals("booking-hold-wheel", thread.get());
+    }
+}
@@ -0,0 +1,80 @@
+package com.oleksandr.monolith.booking.expiry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HoldTimingWheelTest {
+
+    private static final long TICK = 1000;
+    private static final long START = 1_700_000_000_000L;
+
+    private HoldTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HoldTimingWheel(TICK, 8, START);
+    }
+
+    @Test
+    void advance_shouldReturnHoldOnlyOnceDeadlinePassed() {
+        // Given
+        UUID bookingId = UUID.randomUUID();
+        wheel.add(bookingId, START + 2500);
+
+        // When & Then
+        assertTrue(wheel.advance(START + 2000).isEmpty());
+        assertEquals(List.of(bookingId), wheel.advance(START + 2500));
+        assertTrue(wheel.advance(START + 3000).isEmpty());
+        assertEquals(0, wheel.pending());
+    }
+
+    @Test
+    void advance_shouldKeepHoldsScheduledSeveralRevolutionsAhead() {
+        // Given
+        UUID bookingId = UUID.randomUUID();
+        wheel.add(bookingId, START + 20 * TICK);
+
+        // When & Then
+        for (long t = 1; t < 20; t++) {
+            assertTrue(wheel.advance(START + t * TICK).isEmpty());
+        }
+        assertEquals(List.of(bookingId), wheel.advance(START + 20 * TICK));
+    }
+
+    @Test
+    void advance_shouldReturnEverythingDueAfterLongPause() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID later = UUID.randomUUID();
+        wheel.add(first, START + 3 * TICK);
+        wheel.add(second, START + 11 * TICK);
+        wheel.add(later, START + 100 * TICK);
+
+        // When
+        List<UUID> due = wheel.advance(START + 50 * TICK);
+
+        // Then
+        assertEquals(2, due.size());
+        assertTrue(due.containsAll(List.of(first, second)));
+        assertEquals(1, wheel.pending());
+    }
+
+    @Test
+    void add_shouldExpireOverdueHoldOnNextAdvance() {
+        // Given
+        wheel.advance(START + 5 * TICK);
+        UUID overdue = UUID.randomUUID();
+
+        // When
+        wheel.add(overdue, START);
+
+        // Then
+        assertEquals(List.of(overdue), wheel.advance(START + 5 * TICK));
+    }
+}
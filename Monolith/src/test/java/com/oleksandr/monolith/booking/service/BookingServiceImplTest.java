@@ -0,0 +1,195 @@
+package com.oleksandr.monolith.booking.service;
+
+import com.oleksandr.common.dto.CursorPage;
+import com.oleksandr.common.enums.BOOKING_STATUS;
+import com.oleksandr.common.pagination.BookingCursor;
+import com.oleksandr.monolith.booking.input.dto.BookingSummaryDTO;
+import com.oleksandr.monolith.booking.model.Booking;
+import com.oleksandr.monolith.booking.repository.BookingRepository;
+import com.oleksandr.monolith.booking.service.impl.BookingServiceImpl;
+import com.oleksandr.monolith.common.exceptions.BookingConflictException;
+import com.oleksandr.monolith.metrics.BookingMetrics;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingServiceImplTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    private BookingServiceImpl bookingService;
+
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        bookingService = new BookingServiceImpl(bookingRepository, entityManager, bookingMetrics);
+        userId = UUID.randomUUID();
+    }
+
+    private BookingSummaryDTO booking(LocalDateTime createdAt) {
+        return new BookingSummaryDTO(UUID.randomUUID(), UUID.randomUUID(), userId, BOOKING_STATUS.PAID, createdAt);
+    }
+
+    @Test
+    void getBookingsByUser_shouldReturnCursorOfLastBookingWhenMoreRemain() {
+        // Given
+        BookingSummaryDTO newest = booking(LocalDateTime.of(2026, 1, 2, 10, 0));
+        BookingSummaryDTO older = booking(LocalDateTime.of(2026, 1, 1, 10, 0));
+        when(bookingRepository.findUserSummaries(userId, Limit.of(2))).thenReturn(List.of(newest, older));
+
+        // When
+        CursorPage<BookingSummaryDTO> page = bookingService.getBookingsByUser(userId, null, 1);
+
+        // Then
+        assertEquals(List.of(newest), page.content());
+        assertEquals(new BookingCursor(newest.createdAt(), newest.id()), BookingCursor.decode(page.nextCursor()));
+    }
+
+    @Test
+    void getBookingsByUser_shouldSeekPastCursorAndEndWithoutCursor() {
+        // Given
+        BookingCursor cursor = new BookingCursor(LocalDateTime.of(2026, 1, 2, 10, 0), UUID.randomUUID());
+        BookingSummaryDTO older = booking(LocalDateTime.of(2026, 1, 1, 10, 0));
+        when(bookingRepository.findUserSummariesBefore(userId, cursor.createdAt(), cursor.id(), Limit.of(21)))
+                .thenReturn(List.of(older));
+
+        // When
+        CursorPage<BookingSummaryDTO> page = bookingService.getBookingsByUser(userId, cursor.encode(), 20);
+
+        // Then
+        assertEquals(List.of(older), page.content());
+        assertNull(page.nextCursor());
+        verify(bookingRepository, never()).findUserSummaries(any(), any());
+    }
+
+    @Test
+    void getBookingsByUser_shouldRejectOversizedPage() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> bookingService.getBookingsByUser(userId, null, 101));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    private Booking booking(BOOKING_STATUS status) {
+        Booking booking = new Booking();
+        booking.setId(UUID.randomUUID());
+        booking.setStatus(status);
+        return booking;
+    }
+
+    // What a refresh after the bulk update reads back from the row
+    private void refreshLoads(Booking booking, BOOKING_STATUS status) {
+        when(entityManager.contains(booking)).thenReturn(true);
+        doAnswer(invocation -> {
+            booking.setStatus(status);
+            return null;
+        }).when(entityManager).refresh(booking);
+    }
+
+    @Test
+    void cancelBooking_shouldCancelOpenBookingAndRefreshIt() {
+        // Given
+        Booking booking = booking(BOOKING_STATUS.CREATED);
+        when(bookingRepository.compareAndSetStatus(eq(booking.getId()), anyCollection(), eq(BOOKING_STATUS.CANCELLED)))
+                .thenReturn(1);
+        refreshLoads(booking, BOOKING_STATUS.CANCELLED);
+
+        // When
+        Booking cancelled = bookingService.cancelBooking(booking);
+
+        // Then
+        assertEquals(BOOKING_STATUS.CANCELLED, cancelled.getStatus());
+        verify(bookingMetrics, never()).conflict(any());
+    }
+
+    @Test
+    void cancelBooking_shouldAcceptBookingThatIsAlreadyCancelled() {
+        // Given
+        Booking booking = booking(BOOKING_STATUS.CREATED);
+        when(bookingRepository.compareAndSetStatus(eq(booking.getId()), anyCollection(), eq(BOOKING_STATUS.CANCELLED)))
+                .thenReturn(0);
+        refreshLoads(booking, BOOKING_STATUS.CANCELLED);
+
+        // When
+        Booking cancelled = bookingService.cancelBooking(booking);
+
+        // Then
+        assertEquals(BOOKING_STATUS.CANCELLED, cancelled.getStatus());
+        verify(bookingMetrics, never()).conflict(any());
+    }
+
+    @Test
+    void cancelBooking_shouldRejectPaidBooking() {
+        // Given
+        Booking booking = booking(BOOKING_STATUS.PAID);
+        when(bookingRepository.compareAndSetStatus(eq(booking.getId()), anyCollection(), eq(BOOKING_STATUS.CANCELLED)))
+                .thenReturn(0);
+
+        // When & Then
+        assertThrows(BookingConflictException.class, () -> bookingService.cancelBooking(booking));
+        verify(bookingMetrics).conflict("booking_cas");
+    }
+
+    @Test
+    void completeBooking_shouldRejectBookingCancelledConcurrently() {
+        // Given
+        Booking booking = booking(BOOKING_STATUS.WAITING_FOR_PAYMENT);
+        when(bookingRepository.compareAndSetStatus(eq(booking.getId()), anyCollection(), eq(BOOKING_STATUS.PAID)))
+                .thenReturn(0);
+        refreshLoads(booking, BOOKING_STATUS.CANCELLED);
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> bookingService.completeBooking(booking));
+        verify(bookingMetrics).conflict("booking_cas");
+    }
+
+    @Test
+    void completeBooking_shouldOnlyMoveOpenBookingsToPaid() {
+        // Given
+        Booking booking = booking(BOOKING_STATUS.WAITING_FOR_PAYMENT);
+        when(bookingRepository.compareAndSetStatus(booking.getId(),
+                EnumSet.of(BOOKING_STATUS.CREATED, BOOKING_STATUS.WAITING_FOR_PAYMENT, BOOKING_STATUS.EXPIRED),
+                BOOKING_STATUS.PAID)).thenReturn(1);
+
+        // When
+        Booking paid = bookingService.completeBooking(booking);
+
+        // Then
+        assertSame(booking, paid);
+        verify(bookingMetrics, never()).conflict(any());
+    }
+
+    @Test
+    void startPayment_shouldRejectBookingThatIsNoLongerPayable() {
+        // Given
+        Booking booking = booking(BOOKING_STATUS.CREATED);
+        when(bookingRepository.compareAndSetStatus(eq(booking.getId()), anyCollection(),
+                eq(BOOKING_STATUS.WAITING_FOR_PAYMENT))).thenReturn(0);
+        refreshLoads(booking, BOOKING_STATUS.EXPIRED);
+
+        // When & Then
+        assertThrows(BookingConflictException.class, () -> bookingService.startPayment(booking));
+        verify(bookingMetrics).conflict("booking_cas");
+    }
+}
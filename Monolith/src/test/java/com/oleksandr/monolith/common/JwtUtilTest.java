@@ -1,5 +1,6 @@
 package com.oleksandr.monolith.common;
 
+import com.oleksandr.common.constants.CommonConstants;
 import com.oleksandr.monolith.blacklist.BlacklistService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
@@ -9,6 +10,7 @@
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -26,6 +28,9 @@ class JwtUtilTest {
     @Mock
     private BlacklistService blacklistService;
 
+    @Spy
+    private VerifiedTokenCache verifiedTokenCache = new VerifiedTokenCache(1000, 60);
+
     @InjectMocks
     private JwtUtil jwtUtil;
 
@@ -143,6 +148,89 @@ void isTokenValid_shouldReturnFalseForExpiredToken() {
         assertFalse(result);
     }
 
+    @Test
+    void authenticate_shouldVerifyOnceAndServeRepeatedTokenFromCache() {
+        // Given
+        String token = createTestToken(testUserId.toString(), testUsername);
+        when(blacklistService.isBlacklisted(token)).thenReturn(false);
+
+        // When
+        UUID first = jwtUtil.authenticate(token);
+        UUID second = jwtUtil.authenticate(token);
+
+        // Then
+        assertEquals(testUserId, first);
+        assertEquals(testUserId, second);
+        verify(blacklistService, times(1)).isBlacklisted(token);
+    }
+
+    @Test
+    void authenticate_shouldRecheckTokenEvictedFromCache() {
+        // Given
+        String token = createTestToken(testUserId.toString(), testUsername);
+        when(blacklistService.isBlacklisted(token)).thenReturn(false, true);
+        jwtUtil.authenticate(token);
+
+        // When
+        verifiedTokenCache.evict(token);
+        UUID result = jwtUtil.authenticate(token);
+
+        // Then
+        assertNull(result);
+    }
+
+    @Test
+    void authenticate_shouldRejectCachedTokenOnceUserIsRevoked() {
+        // Given
+        String token = createTestToken(testUserId.toString(), testUsername);
+        when(blacklistService.isBlacklisted(token)).thenReturn(false);
+        when(blacklistService.isRevoked(eq(testUserId), anyLong())).thenReturn(false, true);
+        jwtUtil.authenticate(token);
+
+        // When
+        UUID result = jwtUtil.authenticate(token);
+
+        // Then
+        assertNull(result);
+        verify(blacklistService, times(1)).isBlacklisted(token);
+    }
+
+    @Test
+    void authenticate_shouldCheckEpochWithMillisecondIssueTime() {
+        // Given a token from a login 300 ms into the second of a logout
+        long issuedAtMillis = (System.currentTimeMillis() / 1000) * 1000 + 300;
+        String token = Jwts.builder()
+                .setSubject(testUserId.toString())
+                .setIssuedAt(new Date(issuedAtMillis))
+                .claim(CommonConstants.ISSUED_AT_MILLIS_CLAIM, issuedAtMillis)
+                .setExpiration(new Date(System.currentTimeMillis() + 3600000))
+                .signWith(secretKey)
+                .compact();
+        when(blacklistService.isBlacklisted(token)).thenReturn(false);
+        when(blacklistService.isRevoked(testUserId, issuedAtMillis)).thenReturn(false);
+
+        // When
+        UUID result = jwtUtil.authenticate(token);
+
+        // Then
+        assertEquals(testUserId, result);
+        verify(blacklistService).isRevoked(testUserId, issuedAtMillis);
+    }
+
+    @Test
+    void authenticate_shouldNotCacheExpiredToken() {
+        // Given
+        String expiredToken = createExpiredToken(testUserId.toString(), testUsername);
+        when(blacklistService.isBlacklisted(expiredToken)).thenReturn(false);
+
+        // When
+        UUID result = jwtUtil.authenticate(expiredToken);
+
+        // Then
+        assertNull(result);
+        assertNull(verifiedTokenCache.get(expiredToken));
+    }
+
     @Test
     void extractTokenFromHeader_shouldExtractTokenFromBearerHeader() {
         // Given
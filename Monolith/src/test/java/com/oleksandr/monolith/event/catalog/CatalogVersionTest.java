@@ -0,0 +1,49 @@
+package com.oleksandr.monolith.event.catalog;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CatalogVersionTest {
+
+    private CatalogVersion catalogVersion;
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion();
+        eventId = UUID.randomUUID();
+    }
+
+    @Test
+    void eventVersion_shouldReturnRememberedVersionUntilBump() {
+        // Given
+        catalogVersion.remember(eventId, 3L, catalogVersion.current());
+        String etag = catalogVersion.catalogETag();
+
+        // When
+        Long before = catalogVersion.eventVersion(eventId);
+        catalogVersion.bump();
+
+        // Then
+        assertEquals(3L, before);
+        assertNull(catalogVersion.eventVersion(eventId));
+        assertNotEquals(etag, catalogVersion.catalogETag());
+    }
+
+    @Test
+    void remember_shouldIgnoreVersionReadBeforeBump() {
+        // Given
+        long stale = catalogVersion.current();
+        catalogVersion.bump();
+
+        // When
+        catalogVersion.remember(eventId, 3L, stale);
+
+        // Then
+        assertNull(catalogVersion.eventVersion(eventId));
+    }
+}
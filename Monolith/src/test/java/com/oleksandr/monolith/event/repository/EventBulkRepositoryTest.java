@@ -0,0 +1,138 @@
+package com.oleksandr.monolith.event.repository;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the catalog removal statements against an embedded PostgreSQL with the V0/V1 schema.
+ */
+class EventBulkRepositoryTest {
+
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+    private static EventBulkRepository eventBulkRepository;
+
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    @BeforeAll
+    static void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        jdbcTemplate.execute(migration("V0__initial_schema.sql"));
+        jdbcTemplate.execute(migration("V1__drop_unique_constraint_bookings_ticket.sql"));
+        jdbcTemplate.update("INSERT INTO users (id, role) VALUES (?, 'USER')", USER_ID);
+        eventBulkRepository = new EventBulkRepository(jdbcTemplate, 500);
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    private static String migration(String name) throws IOException {
+        return new ClassPathResource("db/migration/" + name).getContentAsString(StandardCharsets.UTF_8);
+    }
+
+    private UUID event() {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO events (id, name) VALUES (?, 'event')", id);
+        return id;
+    }
+
+    private UUID ticket(UUID eventId) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO tickets (id, event_id, price, status) VALUES (?, ?, 10, 'AVAILABLE')", id, eventId);
+        return id;
+    }
+
+    private UUID booking(UUID ticketId, String status) {
+        UUID id = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO bookings (id, user_id, ticket_id, created_at, status) VALUES (?, ?, ?, ?, ?)",
+                id, USER_ID, ticketId, Timestamp.valueOf(LocalDateTime.now()), status);
+        return id;
+    }
+
+    private boolean exists(String table, UUID id) {
+        return !jdbcTemplate.queryForList("SELECT 1 FROM " + table + " WHERE id = ?", id).isEmpty();
+    }
+
+    @Test
+    void deleteEvents_shouldKeepEventWithPaidBookingAndDropOnlyFreeTickets() {
+        // Given
+        UUID soldEvent = event();
+        UUID paidTicket = ticket(soldEvent);
+        UUID paidBooking = booking(paidTicket, "PAID");
+        UUID freeTicket = ticket(soldEvent);
+        UUID cancelledTicket = ticket(soldEvent);
+        UUID cancelledBooking = booking(cancelledTicket, "CANCELLED");
+        UUID emptyEvent = event();
+        ticket(emptyEvent);
+
+        // When
+        EventBulkRepository.RemovedEvents result = eventBulkRepository.deleteEvents(List.of(soldEvent, emptyEvent));
+
+        // Then
+        assertEquals(Set.of(emptyEvent), result.removed());
+        assertEquals(Set.of(soldEvent), result.retained());
+        assertTrue(exists("events", soldEvent));
+        assertTrue(exists("tickets", paidTicket));
+        assertTrue(exists("bookings", paidBooking));
+        assertFalse(exists("tickets", freeTicket));
+        assertFalse(exists("tickets", cancelledTicket));
+        assertFalse(exists("bookings", cancelledBooking));
+        assertFalse(exists("events", emptyEvent));
+    }
+
+    @Test
+    void deleteEvents_shouldNotTouchEventWhoseTicketsAreAllHeld() {
+        // Given
+        UUID heldEvent = event();
+        UUID heldTicket = ticket(heldEvent);
+        booking(heldTicket, "WAITING_FOR_PAYMENT");
+
+        // When
+        EventBulkRepository.RemovedEvents result = eventBulkRepository.deleteEvents(List.of(heldEvent));
+
+        // Then
+        assertTrue(result.removed().isEmpty());
+        assertEquals(Set.of(heldEvent), result.retained());
+        assertTrue(exists("events", heldEvent));
+        assertTrue(exists("tickets", heldTicket));
+    }
+
+    @Test
+    void deleteTicketsNotIn_shouldKeepUnlistedTicketWithLiveBooking() {
+        // Given
+        UUID eventId = event();
+        UUID keptTicket = ticket(eventId);
+        UUID paidTicket = ticket(eventId);
+        UUID paidBooking = booking(paidTicket, "PAID");
+        UUID expiredTicket = ticket(eventId);
+        UUID expiredBooking = booking(expiredTicket, "EXPIRED");
+
+        // When
+        Set<UUID> changed = eventBulkRepository.deleteTicketsNotIn(List.of(eventId), List.of(keptTicket));
+
+        // Then
+        assertEquals(Set.of(eventId), changed);
+        assertTrue(exists("tickets", keptTicket));
+        assertTrue(exists("tickets", paidTicket));
+        assertTrue(exists("bookings", paidBooking));
+        assertFalse(exists("tickets", expiredTicket));
+        assertFalse(exists("bookings", expiredBooking));
+    }
+}
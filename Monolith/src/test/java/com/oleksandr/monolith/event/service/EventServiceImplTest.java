@@ -0,0 +1,85 @@
+package com.oleksandr.monolith.event.service;
+
+import com.oleksandr.common.dto.CursorPage;
+import com.oleksandr.common.pagination.EventCursor;
+import com.oleksandr.monolith.event.catalog.CatalogVersion;
+import com.oleksandr.monolith.event.mapper.EventMapper;
+import com.oleksandr.monolith.event.output.dto.EventSummaryDTO;
+import com.oleksandr.monolith.event.repository.EventRepository;
+import com.oleksandr.monolith.event.service.impl.EventServiceImpl;
+import com.oleksandr.monolith.ticket.mapper.TicketMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventServiceImplTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventServiceImpl eventService;
+
+    @BeforeEach
+    void setUp() {
+        eventService = new EventServiceImpl(eventRepository, new EventMapper(new TicketMapper()), new CatalogVersion());
+    }
+
+    private EventSummaryDTO event(LocalDateTime date) {
+        return EventSummaryDTO.builder()
+                .id(UUID.randomUUID())
+                .name("Event")
+                .eventDate(date)
+                .build();
+    }
+
+    @Test
+    void getEventsSummaryAfter_shouldReturnCursorOfLastEventWhenMoreRemain() {
+        // Given
+        EventSummaryDTO first = event(LocalDateTime.of(2030, 1, 1, 18, 0));
+        EventSummaryDTO second = event(LocalDateTime.of(2030, 1, 2, 18, 0));
+        when(eventRepository.findDatedSummaries(Limit.of(2))).thenReturn(List.of(first, second));
+
+        // When
+        CursorPage<EventSummaryDTO> page = eventService.getEventsSummaryAfter("", 1);
+
+        // Then
+        assertEquals(List.of(first.id()), page.content().stream().map(EventSummaryDTO::id).toList());
+        assertEquals(new EventCursor(first.eventDate(), first.id()), EventCursor.decode(page.nextCursor()));
+        verify(eventRepository, never()).findUndatedSummaries(any());
+    }
+
+    @Test
+    void getEventsSummaryAfter_shouldContinueWithUndatedEventsAndEndWithoutCursor() {
+        // Given
+        EventSummaryDTO dated = event(LocalDateTime.of(2030, 1, 1, 18, 0));
+        EventSummaryDTO undated = event(null);
+        EventCursor cursor = new EventCursor(LocalDateTime.of(2029, 12, 31, 18, 0), UUID.randomUUID());
+        when(eventRepository.findDatedSummariesAfter(cursor.eventDate(), cursor.id(), Limit.of(11))).thenReturn(List.of(dated));
+        when(eventRepository.findUndatedSummaries(Limit.of(10))).thenReturn(List.of(undated));
+
+        // When
+        CursorPage<EventSummaryDTO> page = eventService.getEventsSummaryAfter(cursor.encode(), 10);
+
+        // Then
+        assertEquals(2, page.content().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    void getEventsSummaryAfter_shouldRejectMalformedCursor() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> eventService.getEventsSummaryAfter("not-a-cursor", 10));
+    }
+}
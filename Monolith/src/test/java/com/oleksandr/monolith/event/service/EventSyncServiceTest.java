@@ -0,0 +1,129 @@
+package com.oleksandr.monolith.event.service;
+
+import com.oleksandr.common.dto.EventDTO;
+import com.oleksandr.common.dto.TicketDTO;
+import com.oleksandr.common.enums.TICKET_STATUS;
+import com.oleksandr.common.sync.EventContentHash;
+import com.oleksandr.monolith.event.catalog.CatalogVersion;
+import com.oleksandr.monolith.event.repository.EventBulkRepository;
+import com.oleksandr.monolith.event.service.impl.EventSyncService;
+import com.oleksandr.monolith.ticket.inventory.TicketInventory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EventSyncServiceTest {
+
+    @Mock
+    private EventBulkRepository eventBulkRepository;
+    @Mock
+    private TicketInventory ticketInventory;
+
+    private CatalogVersion catalogVersion;
+    private EventSyncService eventSyncService;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersion = new CatalogVersion();
+        eventSyncService = new EventSyncService(eventBulkRepository, ticketInventory, catalogVersion);
+    }
+
+    private EventDTO event(TicketDTO... tickets) {
+        UUID id = UUID.randomUUID();
+        return new EventDTO(id, "Event", "Description", "Hall", null, LocalDateTime.of(2030, 1, 1, 20, 0), List.of(tickets), null);
+    }
+
+    private TicketDTO ticket() {
+        return new TicketDTO(UUID.randomUUID(), null, "STANDARD", 100.0, "A-1", TICKET_STATUS.AVAILABLE);
+    }
+
+    @Test
+    void syncAll_shouldLeaveCatalogAndInventoryAloneWhenNothingChanged() {
+        // Given
+        TicketDTO kept = ticket();
+        EventDTO dto = event(kept);
+        long version = catalogVersion.current();
+        when(eventBulkRepository.findContentHashes(Set.of(dto.id()))).thenReturn(Map.of(dto.id(), "stale"));
+        when(eventBulkRepository.upsertEvents(List.of(dto))).thenReturn(Set.of());
+        when(eventBulkRepository.deleteTicketsNotIn(Set.of(dto.id()), Set.of(kept.id()))).thenReturn(Set.of());
+        when(eventBulkRepository.upsertTickets(Map.of(dto.id(), List.of(kept)))).thenReturn(Set.of());
+
+        // When
+        eventSyncService.syncAll(List.of(dto));
+
+        // Then
+        assertEquals(version, catalogVersion.current());
+        verifyNoInteractions(ticketInventory);
+    }
+
+    @Test
+    void syncAll_shouldEvictOnlyEventsWithRewrittenTicketsAndSkipDeletesForNewEvents() {
+        // Given
+        EventDTO fresh = event(ticket());
+        EventDTO known = event(ticket());
+        long version = catalogVersion.current();
+        when(eventBulkRepository.findContentHashes(any())).thenReturn(Map.of(known.id(), "stale"));
+        when(eventBulkRepository.upsertEvents(List.of(fresh, known))).thenReturn(Set.of(fresh.id()));
+        when(eventBulkRepository.deleteTicketsNotIn(Set.of(known.id()), Set.of(known.tickets().get(0).id())))
+                .thenReturn(Set.of());
+        when(eventBulkRepository.upsertTickets(any())).thenReturn(Set.of(fresh.id()));
+
+        // When
+        eventSyncService.syncAll(List.of(fresh, known, fresh));
+
+        // Then
+        assertTrue(catalogVersion.current() > version);
+        verify(ticketInventory).evictAfterCommit(fresh.id());
+        verify(ticketInventory, never()).evictAfterCommit(known.id());
+    }
+
+    @Test
+    void syncAll_shouldSkipEventsWhoseContentHashIsUnchanged() {
+        // Given
+        EventDTO unchanged = withHash(event(ticket()));
+        EventDTO changed = withHash(event(ticket()));
+        when(eventBulkRepository.findContentHashes(any()))
+                .thenReturn(Map.of(unchanged.id(), unchanged.contentHash(), changed.id(), "stale"));
+        when(eventBulkRepository.upsertEvents(List.of(changed))).thenReturn(Set.of(changed.id()));
+
+        // When
+        eventSyncService.syncAll(List.of(unchanged, changed));
+
+        // Then
+        verify(eventBulkRepository).upsertTickets(Map.of(changed.id(), changed.tickets()));
+        verify(eventBulkRepository).updateContentHashes(List.of(changed));
+    }
+
+    @Test
+    void syncAll_shouldNotWriteAnythingWhenAllHashesMatch() {
+        // Given
+        EventDTO unchanged = withHash(event(ticket()));
+        when(eventBulkRepository.findContentHashes(Set.of(unchanged.id())))
+                .thenReturn(Map.of(unchanged.id(), unchanged.contentHash()));
+
+        // When
+        eventSyncService.syncAll(List.of(unchanged));
+
+        // Then
+        verify(eventBulkRepository, never()).upsertEvents(any());
+        verify(eventBulkRepository, never()).upsertTickets(any());
+        verifyNoInteractions(ticketInventory);
+    }
+
+    private EventDTO withHash(EventDTO dto) {
+        return dto.toBuilder().contentHash(EventContentHash.of(dto)).build();
+    }
+}
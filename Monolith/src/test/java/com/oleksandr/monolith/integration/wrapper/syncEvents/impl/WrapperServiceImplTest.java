@@ -0,0 +1,69 @@
+package com.oleksandr.monolith.integration.wrapper.syncEvents.impl;
+
+import com.oleksandr.common.dto.EventDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WrapperServiceImplTest {
+
+    private static final int TOTAL_PAGES = 6;
+
+    private final List<String> requestedCursors = new CopyOnWriteArrayList<>();
+
+    // Page n holds a single event whose name is its page number; its cursor points at page n + 1
+    private WebClient.Builder provider() {
+        return WebClient.builder().exchangeFunction(request -> {
+            String cursor = UriComponentsBuilder.fromUri(request.url()).build()
+                    .getQueryParams().getFirst("cursor");
+            requestedCursors.add(cursor);
+            int page = cursor == null || cursor.isEmpty() ? 0 : Integer.parseInt(cursor);
+            String next = page + 1 < TOTAL_PAGES ? "\"" + (page + 1) + "\"" : "null";
+            String body = """
+                    {"content":[{"id":"%s","name":"%d","tickets":[]}],"nextCursor":%s}
+                    """.formatted(UUID.randomUUID(), page, next);
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                    .header("Content-Type", "application/json")
+                    .body(body)
+                    .build());
+        });
+    }
+
+    @Test
+    void streamExternalEvents_shouldFollowCursorUntilLastPage() {
+        // Given
+        WrapperServiceImpl wrapperService = new WrapperServiceImpl(provider(), "http://provider", 1);
+
+        // When
+        List<List<EventDTO>> pages = wrapperService.streamExternalEvents().collectList().block();
+
+        // Then
+        assertNotNull(pages);
+        assertEquals(List.of("0", "1", "2", "3", "4", "5"),
+                pages.stream().map(page -> page.get(0).name()).toList());
+        assertEquals(List.of("", "1", "2", "3", "4", "5"), requestedCursors);
+    }
+
+    @Test
+    void streamExternalEvents_shouldNotFetchAheadOfDemand() {
+        // Given
+        WrapperServiceImpl wrapperService = new WrapperServiceImpl(provider(), "http://provider", 1);
+
+        // When
+        List<List<EventDTO>> pages = wrapperService.streamExternalEvents().limitRate(1).take(2).collectList().block();
+
+        // Then
+        assertNotNull(pages);
+        assertEquals(2, pages.size());
+        assertTrue(requestedCursors.size() <= 3, "fetched " + requestedCursors);
+    }
+}
@@ -0,0 +1,71 @@
+package com.oleksandr.monolith.kafka;
+
+import com.oleksandr.common.catalog.EventCatalogChange;
+import com.oleksandr.common.dto.EventDTO;
+import com.oleksandr.monolith.event.service.impl.EventSyncService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogChangeConsumerTest {
+
+    @Mock
+    private EventSyncService eventSyncService;
+
+    @InjectMocks
+    private CatalogChangeConsumer catalogChangeConsumer;
+
+    private EventDTO event(UUID id, String name) {
+        return EventDTO.builder()
+                .id(id)
+                .name(name)
+                .eventDate(LocalDateTime.of(2030, 1, 1, 20, 0))
+                .tickets(List.of())
+                .build();
+    }
+
+    @Test
+    void listen_shouldApplyOnlyLastChangePerEvent() {
+        // Given
+        UUID renamedId = UUID.randomUUID();
+        UUID removedId = UUID.randomUUID();
+        EventDTO renamed = event(renamedId, "Renamed");
+
+        // When
+        catalogChangeConsumer.listen(List.of(
+                EventCatalogChange.created(event(renamedId, "Original")),
+                EventCatalogChange.created(event(removedId, "Removed")),
+                EventCatalogChange.updated(renamed),
+                EventCatalogChange.deleted(removedId)));
+
+        // Then
+        verify(eventSyncService).syncAll(List.of(renamed));
+        verify(eventSyncService).removeAll(List.of(removedId));
+    }
+
+    @Test
+    void listen_shouldSkipRecordsThatFailedToDeserialize() {
+        // Given
+        EventDTO created = event(UUID.randomUUID(), "Created");
+        List<EventCatalogChange> changes = new ArrayList<>();
+        changes.add(null);
+        changes.add(EventCatalogChange.created(created));
+
+        // When
+        catalogChangeConsumer.listen(changes);
+
+        // Then
+        verify(eventSyncService).syncAll(List.of(created));
+        verify(eventSyncService).removeAll(List.of());
+    }
+}
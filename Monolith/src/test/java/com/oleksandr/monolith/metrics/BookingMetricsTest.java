@@ -0,0 +1,56 @@
+package com.oleksandr.monolith.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private BookingMetrics bookingMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bookingMetrics = new BookingMetrics(meterRegistry);
+    }
+
+    @Test
+    void time_shouldRecordSuccessfulStage() {
+        // When
+        String result = bookingMetrics.time(BookingMetrics.TICKET_RESERVATION, () -> "ok");
+
+        // Then
+        assertEquals("ok", result);
+        assertEquals(1, meterRegistry.get("booking.stage")
+                .tag("stage", BookingMetrics.TICKET_RESERVATION)
+                .tag("outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void time_shouldRecordFailedStageAndRethrow() {
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> bookingMetrics.time(BookingMetrics.PAYU_ORDER, () -> {
+            throw new IllegalStateException("PayU down");
+        }));
+        assertEquals(1, meterRegistry.get("booking.stage")
+                .tag("stage", BookingMetrics.PAYU_ORDER)
+                .tag("outcome", "error")
+                .timer().count());
+    }
+
+    @Test
+    void conflict_shouldCountPerReason() {
+        // When
+        bookingMetrics.conflict("ticket_cas");
+        bookingMetrics.conflict("ticket_cas");
+        bookingMetrics.conflict("booking_cas");
+
+        // Then
+        assertEquals(2, meterRegistry.get("booking.conflicts").tag("reason", "ticket_cas").counter().count());
+        assertEquals(1, meterRegistry.get("booking.conflicts").tag("reason", "booking_cas").counter().count());
+    }
+}
@@ -0,0 +1,214 @@
+package com.oleksandr.monolith.outbox.scheduled;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oleksandr.monolith.integration.wrapper.reservationIntegration.ReservationRequestDto;
+import com.oleksandr.monolith.integration.wrapper.reservationIntegration.ReserveService;
+import com.oleksandr.monolith.kafka.KafkaProducer;
+import com.oleksandr.monolith.outbox.model.OUTBOX_MESSAGE_TYPE;
+import com.oleksandr.monolith.outbox.model.OutboxMessage;
+import com.oleksandr.monolith.outbox.repository.OutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private ReserveService reserveService;
+
+    @Mock
+    private KafkaProducer kafkaProducer;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private OutboxRelay outboxRelay;
+
+    private final AtomicBoolean inTransaction = new AtomicBoolean();
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = new OutboxRelay(outboxRepository, reserveService, kafkaProducer, objectMapper, transactionTemplate);
+        ReflectionTestUtils.setField(outboxRelay, "batchSize", 100);
+        ReflectionTestUtils.setField(outboxRelay, "maxAttempts", 3);
+        ReflectionTestUtils.setField(outboxRelay, "backoffMillis", 1000L);
+        ReflectionTestUtils.setField(outboxRelay, "maxBackoffMillis", 60000L);
+        ReflectionTestUtils.setField(outboxRelay, "kafkaTimeoutMillis", 1000L);
+        ReflectionTestUtils.setField(outboxRelay, "leaseMillis", 60000L);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> inTransaction(() ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null)));
+        lenient().doAnswer(invocation -> inTransaction(() -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        })).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    private Object inTransaction(Supplier<?> work) {
+        inTransaction.set(true);
+        try {
+            return work.get();
+        } finally {
+            inTransaction.set(false);
+        }
+    }
+
+    private OutboxMessage message(OUTBOX_MESSAGE_TYPE type, UUID ticketId, UUID bookingId, int attempts) throws Exception {
+        return OutboxMessage.builder()
+                .id((long) attempts)
+                .type(type)
+                .aggregateKey(ticketId.toString())
+                .payload(objectMapper.writeValueAsString(new ReservationRequestDto(ticketId, bookingId)))
+                .attempts(attempts)
+                .nextAttemptAt(LocalDateTime.now())
+                .build();
+    }
+
+    @Test
+    void drainBatch_shouldSendAllCreationsInOneCallAndDeleteThem() throws Exception {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<OutboxMessage> batch = List.of(
+                message(OUTBOX_MESSAGE_TYPE.RESERVATION_CREATED, first, UUID.randomUUID(), 0),
+                message(OUTBOX_MESSAGE_TYPE.RESERVATION_CREATED, second, UUID.randomUUID(), 0));
+        when(outboxRepository.lockNextBatch(any(), eq(100))).thenReturn(batch);
+
+        // When
+        int drained = outboxRelay.drainBatch();
+
+        // Then
+        assertEquals(2, drained);
+        verify(reserveService, times(1)).sendBookingsCreation(argThat(requests ->
+                requests.size() == 2 && requests.get(0).ticketId().equals(first) && requests.get(1).ticketId().equals(second)));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(0L, 0L));
+    }
+
+    @Test
+    void drainBatch_shouldKeepFailedMessageWithBackoff() throws Exception {
+        // Given
+        UUID ticketId = UUID.randomUUID();
+        UUID bookingId = UUID.randomUUID();
+        OutboxMessage cancel = message(OUTBOX_MESSAGE_TYPE.RESERVATION_CANCELLED, ticketId, bookingId, 0);
+        when(outboxRepository.lockNextBatch(any(), eq(100))).thenReturn(List.of(cancel));
+        doThrow(new RuntimeException("EventProvider down")).when(reserveService).sendBookingCancel(ticketId, bookingId);
+
+        // When
+        outboxRelay.drainBatch();
+
+        // Then
+        assertEquals(1, cancel.getAttempts());
+        assertFalse(cancel.isDead());
+        assertTrue(cancel.getNextAttemptAt().isAfter(LocalDateTime.now()));
+        assertEquals("EventProvider down", cancel.getLastError());
+        verify(outboxRepository).deleteAllByIdInBatch(List.of());
+        verify(outboxRepository).saveAll(List.of(cancel));
+    }
+
+    @Test
+    void drainBatch_shouldMarkMessageDeadAfterMaxAttempts() throws Exception {
+        // Given
+        UUID ticketId = UUID.randomUUID();
+        UUID bookingId = UUID.randomUUID();
+        OutboxMessage confirm = message(OUTBOX_MESSAGE_TYPE.RESERVATION_CONFIRMED, ticketId, bookingId, 2);
+        when(outboxRepository.lockNextBatch(any(), eq(100))).thenReturn(List.of(confirm));
+        doThrow(new RuntimeException("EventProvider down")).when(reserveService).sendBookingComplete(ticketId, bookingId);
+
+        // When
+        outboxRelay.drainBatch();
+
+        // Then
+        assertEquals(3, confirm.getAttempts());
+        assertTrue(confirm.isDead());
+    }
+
+    @Test
+    void drainBatch_shouldLeaseBatchAndDeliverOutsideTransaction() throws Exception {
+        // Given
+        UUID ticketId = UUID.randomUUID();
+        UUID bookingId = UUID.randomUUID();
+        OutboxMessage cancel = message(OUTBOX_MESSAGE_TYPE.RESERVATION_CANCELLED, ticketId, bookingId, 1);
+        when(outboxRepository.lockNextBatch(any(), eq(100))).thenReturn(List.of(cancel));
+        doAnswer(invocation -> {
+            assertFalse(inTransaction.get(), "EventProvider called while holding the outbox locks");
+            return null;
+        }).when(reserveService).sendBookingCancel(ticketId, bookingId);
+
+        // When
+        outboxRelay.drainBatch();
+
+        // Then
+        InOrder inOrder = inOrder(outboxRepository, reserveService);
+        inOrder.verify(outboxRepository).lease(eq(List.of(1L)), argThat(until -> until.isAfter(LocalDateTime.now())));
+        inOrder.verify(reserveService).sendBookingCancel(ticketId, bookingId);
+        inOrder.verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+    }
+
+    @Test
+    void drainBatch_shouldFailUnreadableCreationAlone() throws Exception {
+        // Given
+        UUID ticketId = UUID.randomUUID();
+        OutboxMessage good = message(OUTBOX_MESSAGE_TYPE.RESERVATION_CREATED, ticketId, UUID.randomUUID(), 1);
+        OutboxMessage poison = message(OUTBOX_MESSAGE_TYPE.RESERVATION_CREATED, UUID.randomUUID(), UUID.randomUUID(), 2);
+        poison.setPayload("not json");
+        when(outboxRepository.lockNextBatch(any(), eq(100))).thenReturn(List.of(good, poison));
+
+        // When
+        outboxRelay.drainBatch();
+
+        // Then
+        verify(reserveService).sendBookingsCreation(argThat(requests ->
+                requests.size() == 1 && requests.get(0).ticketId().equals(ticketId)));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(outboxRepository).saveAll(List.of(poison));
+        assertEquals(1, good.getAttempts());
+        assertEquals(3, poison.getAttempts());
+    }
+
+    @Test
+    void drainBatch_shouldSendCreationsOneByOneWhenBatchIsRefused() throws Exception {
+        // Given
+        UUID taken = UUID.randomUUID();
+        UUID free = UUID.randomUUID();
+        UUID takenBooking = UUID.randomUUID();
+        UUID freeBooking = UUID.randomUUID();
+        OutboxMessage rejected = message(OUTBOX_MESSAGE_TYPE.RESERVATION_CREATED, taken, takenBooking, 0);
+        OutboxMessage accepted = message(OUTBOX_MESSAGE_TYPE.RESERVATION_CREATED, free, freeBooking, 1);
+        when(outboxRepository.lockNextBatch(any(), eq(100))).thenReturn(List.of(rejected, accepted));
+        doThrow(new RuntimeException("409 Conflict")).when(reserveService).sendBookingsCreation(anyList());
+        doThrow(new RuntimeException("409 Conflict")).when(reserveService).sendBookingCreation(taken, takenBooking);
+
+        // When
+        outboxRelay.drainBatch();
+
+        // Then
+        verify(reserveService).sendBookingCreation(free, freeBooking);
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(outboxRepository).saveAll(List.of(rejected));
+        assertEquals(1, rejected.getAttempts());
+        assertEquals(1, accepted.getAttempts());
+    }
+}
@@ -0,0 +1,299 @@
+package com.oleksandr.monolith.stress;
+
+import com.oleksandr.common.enums.TICKET_STATUS;
+import com.oleksandr.common.enums.USER_ROLE;
+import com.oleksandr.monolith.booking.input.dto.BookingSummaryDTO;
+import com.oleksandr.monolith.common.exceptions.TicketNotAvailableException;
+import com.oleksandr.monolith.coordinator.BookingCoordinator;
+import com.oleksandr.monolith.event.model.Event;
+import com.oleksandr.monolith.event.repository.EventRepository;
+import com.oleksandr.monolith.integration.auth.AuthClientService;
+import com.oleksandr.monolith.integration.wrapper.reservationIntegration.ReserveService;
+import com.oleksandr.monolith.integration.wrapper.syncEvents.api.WrapperService;
+import com.oleksandr.monolith.kafka.KafkaProducer;
+import com.oleksandr.monolith.ticket.model.Ticket;
+import com.oleksandr.monolith.user.model.User;
+import com.oleksandr.monolith.user.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Fires concurrent {@link BookingCoordinator#createBooking} calls at a small pool of tickets
+ * on an embedded PostgreSQL and checks that no ticket ends up with two active bookings,
+ * and that a batch with one taken ticket books none of them.
+ * External services are replaced by mocks, so the run measures the reservation path only.
+ * <p>
+ * Only runs with {@code mvn -P stress -pl Monolith -am test}; the load can be tuned with
+ * {@code -Dstress.calls}, {@code -Dstress.tickets}, {@code -Dstress.users}, {@code -Dstress.threads}
+ * and {@code -Dstress.pool-size}.
+ */
+@Slf4j
+@Tag("stress")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=WARN",
+        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+        "logging.level.com.oleksandr.monolith=WARN",
+        "scheduler.delay=3600000",
+        "event.provider.url=http://localhost",
+        "payu.client.id=stress",
+        "payu.client.secret=stress",
+        "payu.merchant.pos.id=stress",
+        "payu.second.key=stress",
+        "payu.base.url=http://localhost",
+        "payu.notify.base.url=http://localhost",
+        "app.frontend.url=http://localhost"
+})
+class ReservationContentionStressTest {
+
+    @TestConfiguration
+    static class EmbeddedPostgresConfig {
+
+        @Bean(destroyMethod = "close")
+        EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.builder().start();
+        }
+
+        @Bean
+        @Primary
+        DataSource dataSource(EmbeddedPostgres postgres, @Value("${stress.pool-size:20}") int poolSize) {
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setJdbcUrl(postgres.getJdbcUrl("postgres", "postgres"));
+            dataSource.setUsername("postgres");
+            dataSource.setMaximumPoolSize(poolSize);
+            return dataSource;
+        }
+    }
+
+    @MockBean
+    private AuthClientService authClientService;
+    @MockBean
+    private ReserveService reserveService;
+    @MockBean
+    private KafkaProducer kafkaProducer;
+    @MockBean
+    private WrapperService wrapperService;
+
+    @Autowired
+    private BookingCoordinator bookingCoordinator;
+    @Autowired
+    private EventRepository eventRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final int calls = Integer.getInteger("stress.calls", 5000);
+    private final int ticketCount = Integer.getInteger("stress.tickets", 50);
+    private final int userCount = Integer.getInteger("stress.users", 500);
+    private final int threads = Integer.getInteger("stress.threads", 64);
+
+    private UUID eventId;
+    private List<UUID> ticketIds;
+    private List<UUID> userIds;
+
+    @BeforeEach
+    void setUp() {
+        when(kafkaProducer.sendMessage(any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        Event event = new Event();
+        event.setId(UUID.randomUUID());
+        event.setName("Stress event");
+        event.setLocation("Stress hall");
+        event.setEventDate(LocalDateTime.now().plusDays(30));
+        List<Ticket> tickets = new ArrayList<>();
+        for (int i = 0; i < ticketCount; i++) {
+            Ticket ticket = new Ticket();
+            ticket.setId(UUID.randomUUID());
+            ticket.setEvent(event);
+            ticket.setType("STANDARD");
+            ticket.setPrice(100.0);
+            ticket.setPlace("A-" + i);
+            ticket.setStatus(TICKET_STATUS.AVAILABLE);
+            tickets.add(ticket);
+        }
+        event.setTickets(tickets);
+        eventRepository.save(event);
+        eventId = event.getId();
+        ticketIds = tickets.stream().map(Ticket::getId).toList();
+
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < userCount; i++) {
+            User user = new User();
+            user.setId(UUID.randomUUID());
+            user.setUsername("stress-" + i);
+            user.setEmail("stress-" + i + "@ticres.test");
+            user.setRole(USER_ROLE.USER);
+            users.add(user);
+        }
+        userRepository.saveAll(users);
+        userIds = users.stream().map(User::getId).toList();
+    }
+
+    @Test
+    void createBooking_shouldNeverDoubleBookUnderContention() throws InterruptedException {
+        // Given
+        Map<String, Double> conflictsBefore = conflictCounts();
+        long[] latencies = new long[calls];
+        Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+        ConcurrentLinkedQueue<BookingSummaryDTO> booked = new ConcurrentLinkedQueue<>();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(calls);
+
+        for (int i = 0; i < calls; i++) {
+            int call = i;
+            executor.execute(() -> {
+                UUID ticketId = ticketIds.get(call % ticketCount);
+                UUID userId = userIds.get(call % userCount);
+                try {
+                    start.await();
+                    long begin = System.nanoTime();
+                    String outcome = "booked";
+                    try {
+                        booked.add(bookingCoordinator.createBooking(userId, ticketId));
+                    } catch (RuntimeException ex) {
+                        outcome = ex.getClass().getSimpleName();
+                    }
+                    latencies[call] = System.nanoTime() - begin;
+                    outcomes.computeIfAbsent(outcome, k -> new LongAdder()).increment();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        // When
+        long begin = System.nanoTime();
+        start.countDown();
+        boolean finished = done.await(10, TimeUnit.MINUTES);
+        long elapsed = System.nanoTime() - begin;
+        executor.shutdownNow();
+
+        // Then
+        assertTrue(finished, "Stress run did not finish in time");
+        log.warn(report(elapsed, latencies, outcomes, booked.size(), conflictsBefore));
+
+        Set<UUID> bookedTickets = new HashSet<>();
+        booked.forEach(b -> assertTrue(bookedTickets.add(b.ticketId()), "Ticket booked twice: " + b.ticketId()));
+
+        List<UUID> doubleBooked = jdbcTemplate.queryForList(
+                "SELECT b.ticket_id FROM bookings b JOIN tickets t ON t.id = b.ticket_id " +
+                "WHERE t.event_id = ? AND b.status <> 'CANCELLED' " +
+                "GROUP BY b.ticket_id HAVING COUNT(*) > 1", UUID.class, eventId);
+        assertTrue(doubleBooked.isEmpty(), "Tickets with more than one active booking: " + doubleBooked);
+
+        Integer reservedWithoutBooking = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tickets t WHERE t.event_id = ? AND t.status = 'RESERVED' " +
+                "AND NOT EXISTS (SELECT 1 FROM bookings b WHERE b.ticket_id = t.id AND b.status <> 'CANCELLED')",
+                Integer.class, eventId);
+        Integer availableWithBooking = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tickets t WHERE t.event_id = ? AND t.status = 'AVAILABLE' " +
+                "AND EXISTS (SELECT 1 FROM bookings b WHERE b.ticket_id = t.id AND b.status <> 'CANCELLED')",
+                Integer.class, eventId);
+        assertEquals(0, reservedWithoutBooking);
+        assertEquals(0, availableWithBooking);
+
+        // Every ticket was requested far more than once, so each one is sold exactly once
+        assertEquals(Math.min(ticketCount, calls), bookedTickets.size());
+    }
+
+    @Test
+    void createBookings_shouldRollBackWholeBatchWhenOneTicketIsTaken() {
+        // Given
+        UUID taken = ticketIds.get(0);
+        List<UUID> batch = List.of(ticketIds.get(1), ticketIds.get(2), taken);
+        bookingCoordinator.createBooking(userIds.get(0), taken);
+        UUID userId = userIds.get(1);
+
+        // When
+        assertThrows(TicketNotAvailableException.class, () -> bookingCoordinator.createBookings(userId, batch));
+
+        // Then
+        List<String> statuses = jdbcTemplate.queryForList(
+                "SELECT status FROM tickets WHERE id IN (?, ?)", String.class, batch.get(0), batch.get(1));
+        assertEquals(List.of("AVAILABLE", "AVAILABLE"), statuses);
+        Integer bookingsOfUser = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM bookings WHERE user_id = ?", Integer.class, userId);
+        assertEquals(0, bookingsOfUser);
+        // the in-memory claims were released as well
+        assertEquals(2, bookingCoordinator.createBookings(userId, batch.subList(0, 2)).size());
+    }
+
+    private String report(long elapsedNanos, long[] latencies, Map<String, LongAdder> outcomes,
+                          int booked, Map<String, Double> conflictsBefore) {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+        double seconds = elapsedNanos / 1e9;
+
+        StringBuilder report = new StringBuilder("\n=== Reservation contention ===\n");
+        report.append(String.format("calls=%d tickets=%d users=%d threads=%d elapsed=%.2fs%n",
+                calls, ticketCount, userCount, threads, seconds));
+        report.append(String.format("throughput: %.1f calls/s, %.1f bookings/s%n",
+                calls / seconds, booked / seconds));
+        report.append(String.format("latency: p50=%.2fms p99=%.2fms max=%.2fms%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.99), sorted[sorted.length - 1] / 1e6));
+        report.append("outcomes: ");
+        new TreeMap<>(outcomes).forEach((k, v) -> report.append(k).append('=').append(v.sum()).append(' '));
+        report.append("\nconflicts: ");
+        conflictCounts().forEach((reason, count) ->
+                report.append(reason).append('=')
+                        .append((long) (count - conflictsBefore.getOrDefault(reason, 0.0))).append(' '));
+        return report.toString();
+    }
+
+    private static double percentile(long[] sorted, double p) {
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private Map<String, Double> conflictCounts() {
+        Map<String, Double> counts = new TreeMap<>();
+        for (Counter counter : meterRegistry.find("booking.conflicts").counters()) {
+            counts.put(counter.getId().getTag("reason"), counter.count());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,40 @@
+package com.oleksandr.monolith.ticket.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatMapCodecTest {
+
+    @Test
+    void encodeRuns_shouldRoundTripLongRuns() {
+        // Given
+        byte[] statuses = new byte[20_000];
+        for (int i = 5_000; i < 5_300; i++) statuses[i] = 1;
+        statuses[19_999] = 2;
+
+        // When
+        byte[] encoded = SeatMapCodec.encodeRuns(statuses);
+
+        // Then
+        assertTrue(encoded.length < 16);
+        assertArrayEquals(statuses, SeatMapCodec.decodeRuns(encoded, statuses.length));
+    }
+
+    @Test
+    void encodeChanges_shouldApplyOnlyChangedSeats() {
+        // Given
+        byte[] current = new byte[1_000];
+        current[3] = 1;
+        current[700] = 2;
+        byte[] previous = new byte[1_000];
+
+        // When
+        byte[] encoded = SeatMapCodec.encodeChanges(new int[]{3, 700}, current);
+        SeatMapCodec.applyChanges(previous, encoded);
+
+        // Then
+        assertEquals(5, encoded.length);
+        assertArrayEquals(current, previous);
+    }
+}
@@ -0,0 +1,174 @@
+package com.oleksandr.monolith.ticket.inventory;
+
+import com.oleksandr.common.enums.TICKET_STATUS;
+import com.oleksandr.monolith.common.exceptions.ResourceNotFoundException;
+import com.oleksandr.monolith.common.exceptions.TicketNotAvailableException;
+import com.oleksandr.monolith.ticket.model.Ticket;
+import com.oleksandr.monolith.ticket.repository.TicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketInventoryTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    private TicketInventory ticketInventory;
+
+    private UUID eventId;
+    private UUID availableId;
+    private UUID reservedId;
+
+    @BeforeEach
+    void setUp() {
+        ticketInventory = new TicketInventory(ticketRepository);
+        eventId = UUID.randomUUID();
+        availableId = UUID.randomUUID();
+        reservedId = UUID.randomUUID();
+    }
+
+    private Ticket ticket(UUID id, TICKET_STATUS status) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        ticket.setStatus(status);
+        return ticket;
+    }
+
+    private void givenEventTickets(Ticket... tickets) {
+        when(ticketRepository.findAllByEventId(eventId)).thenReturn(List.of(tickets));
+    }
+
+    @Test
+    void claim_shouldReserveAvailableSeatOnce() {
+        // Given
+        when(ticketRepository.findEventIdById(availableId)).thenReturn(Optional.of(eventId));
+        givenEventTickets(ticket(availableId, TICKET_STATUS.AVAILABLE), ticket(reservedId, TICKET_STATUS.RESERVED));
+
+        // When
+        ticketInventory.claim(availableId);
+
+        // Then
+        assertThrows(TicketNotAvailableException.class, () -> ticketInventory.claim(availableId));
+        verify(ticketRepository, times(1)).findAllByEventId(eventId);
+    }
+
+    @Test
+    void claim_shouldRejectReservedSeatWithoutRepositoryLookup() {
+        // Given
+        when(ticketRepository.findEventIdById(availableId)).thenReturn(Optional.of(eventId));
+        givenEventTickets(ticket(availableId, TICKET_STATUS.AVAILABLE), ticket(reservedId, TICKET_STATUS.RESERVED));
+        ticketInventory.claim(availableId);
+
+        // When & Then
+        assertThrows(TicketNotAvailableException.class, () -> ticketInventory.claim(reservedId));
+        verify(ticketRepository, never()).findEventIdById(reservedId);
+    }
+
+    @Test
+    void claim_shouldRejectWhenEventIsSoldOut() {
+        // Given
+        when(ticketRepository.findEventIdById(reservedId)).thenReturn(Optional.of(eventId));
+        givenEventTickets(ticket(availableId, TICKET_STATUS.SOLD), ticket(reservedId, TICKET_STATUS.RESERVED));
+
+        // When & Then
+        assertThrows(TicketNotAvailableException.class, () -> ticketInventory.claim(reservedId));
+    }
+
+    @Test
+    void claim_shouldThrowWhenTicketDoesNotExist() {
+        // Given
+        UUID unknownId = UUID.randomUUID();
+        when(ticketRepository.findEventIdById(unknownId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(ResourceNotFoundException.class, () -> ticketInventory.claim(unknownId));
+    }
+
+    @Test
+    void release_shouldMakeClaimedSeatAvailableAgain() {
+        // Given
+        when(ticketRepository.findEventIdById(availableId)).thenReturn(Optional.of(eventId));
+        givenEventTickets(ticket(availableId, TICKET_STATUS.AVAILABLE));
+        ticketInventory.claim(availableId);
+
+        // When
+        ticketInventory.release(availableId);
+
+        // Then
+        assertDoesNotThrow(() -> ticketInventory.claim(availableId));
+    }
+
+    @Test
+    void record_shouldApplyStatusToLoadedSeat() {
+        // Given
+        when(ticketRepository.findEventIdById(availableId)).thenReturn(Optional.of(eventId));
+        givenEventTickets(ticket(availableId, TICKET_STATUS.AVAILABLE), ticket(reservedId, TICKET_STATUS.RESERVED));
+        ticketInventory.claim(availableId);
+
+        // When
+        ticketInventory.record(reservedId, TICKET_STATUS.AVAILABLE);
+
+        // Then
+        assertDoesNotThrow(() -> ticketInventory.claim(reservedId));
+    }
+
+    @Test
+    void evict_shouldReloadEventFromRepository() {
+        // Given
+        when(ticketRepository.findEventIdById(availableId)).thenReturn(Optional.of(eventId));
+        givenEventTickets(ticket(availableId, TICKET_STATUS.AVAILABLE));
+        ticketInventory.claim(availableId);
+
+        // When
+        ticketInventory.evict(eventId);
+
+        // Then
+        assertDoesNotThrow(() -> ticketInventory.claim(availableId));
+        verify(ticketRepository, times(2)).findAllByEventId(eventId);
+    }
+
+    @Test
+    void seatMap_shouldReturnDeltaSinceKnownVersion() {
+        // Given
+        givenEventTickets(ticket(availableId, TICKET_STATUS.AVAILABLE), ticket(reservedId, TICKET_STATUS.RESERVED));
+        SeatMap full = ticketInventory.seatMap(eventId, null);
+
+        // When
+        ticketInventory.claim(availableId);
+        SeatMap delta = ticketInventory.seatMap(eventId, full.version());
+
+        // Then
+        assertFalse(full.delta());
+        assertTrue(delta.delta());
+        assertTrue(delta.version() > full.version());
+        byte[] statuses = SeatMapCodec.decodeRuns(full.data(), full.seats());
+        SeatMapCodec.applyChanges(statuses, delta.data());
+        assertArrayEquals(SeatMapCodec.decodeRuns(ticketInventory.seatMap(eventId, null).data(), 2), statuses);
+    }
+
+    @Test
+    void seatMap_shouldReturnFullMapAfterEviction() {
+        // Given
+        givenEventTickets(ticket(availableId, TICKET_STATUS.AVAILABLE));
+        SeatMap before = ticketInventory.seatMap(eventId, null);
+        ticketInventory.evict(eventId);
+
+        // When
+        SeatMap after = ticketInventory.seatMap(eventId, before.version());
+
+        // Then
+        assertFalse(after.delta());
+        assertTrue(after.version() > before.version());
+    }
+}
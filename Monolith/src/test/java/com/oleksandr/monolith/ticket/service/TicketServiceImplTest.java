@@ -0,0 +1,220 @@
+package com.oleksandr.monolith.ticket.service;
+
+import com.oleksandr.common.dto.TicketDTO;
+import com.oleksandr.common.enums.TICKET_STATUS;
+import com.oleksandr.monolith.common.exceptions.TicketNotAvailableException;
+import com.oleksandr.monolith.metrics.BookingMetrics;
+import com.oleksandr.monolith.ticket.Service.impl.TicketServiceImpl;
+import com.oleksandr.monolith.ticket.inventory.TicketInventory;
+import com.oleksandr.monolith.ticket.model.Ticket;
+import com.oleksandr.monolith.ticket.repository.TicketRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketServiceImplTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+    @Mock
+    private TicketInventory ticketInventory;
+    @Mock
+    private EntityManager entityManager;
+    @Mock
+    private BookingMetrics bookingMetrics;
+
+    private TicketServiceImpl ticketService;
+
+    private UUID eventId;
+
+    @BeforeEach
+    void setUp() {
+        ticketService = new TicketServiceImpl(ticketRepository, ticketInventory, entityManager, bookingMetrics);
+        eventId = UUID.randomUUID();
+    }
+
+    private TicketDTO ticketDto(String id) {
+        return new TicketDTO(UUID.fromString(id), eventId, "STANDARD", 100.0, "1", TICKET_STATUS.AVAILABLE);
+    }
+
+    @Test
+    void getTicketsByEventId_shouldListTicketsInSeatMapOrder() {
+        // Given PostgreSQL's unsigned order, where ids with the high bit set come last
+        TicketDTO low = ticketDto("00000000-0000-4000-8000-000000000001");
+        TicketDTO mid = ticketDto("7fffffff-0000-4000-8000-000000000002");
+        TicketDTO high = ticketDto("80000000-0000-4000-8000-000000000003");
+        TicketDTO top = ticketDto("f0000000-0000-4000-8000-000000000004");
+        when(ticketRepository.findDtosByEventId(eventId)).thenReturn(List.of(low, mid, high, top));
+
+        // When
+        List<TicketDTO> tickets = ticketService.getTicketsByEventId(eventId);
+
+        // Then seat indexes follow UUID.compareTo, which puts the high-bit ids first
+        assertEquals(List.of(high, top, low, mid), tickets);
+        assertEquals(tickets.stream().map(TicketDTO::id).sorted().toList(),
+                tickets.stream().map(TicketDTO::id).toList());
+    }
+
+    @Test
+    void reserveTickets_shouldRejectWholeBatchWhenOneTicketIsTaken() {
+        // Given
+        UUID free = UUID.randomUUID();
+        UUID taken = UUID.randomUUID();
+        when(ticketRepository.reserveAvailable(List.of(free, taken))).thenReturn(List.of(free));
+
+        // When
+        assertThrows(TicketNotAvailableException.class, () -> ticketService.reserveTickets(List.of(free, taken)));
+
+        // Then the seat the database refused stays taken in memory, the free one goes back
+        verify(ticketInventory).release(free);
+        verify(ticketInventory, never()).release(taken);
+        verify(ticketInventory, never()).releaseOnRollback(any());
+        verify(bookingMetrics).conflict("ticket_cas");
+        verify(ticketRepository, never()).getReferenceById(any());
+    }
+
+    @Test
+    void reserveTickets_shouldReleaseClaimsWhenAClaimFails() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        doNothing().when(ticketInventory).claim(first);
+        doThrow(new TicketNotAvailableException("taken")).when(ticketInventory).claim(second);
+
+        // When
+        assertThrows(TicketNotAvailableException.class, () -> ticketService.reserveTickets(List.of(first, second)));
+
+        // Then
+        verify(ticketInventory).release(first);
+        verify(ticketRepository, never()).reserveAvailable(any());
+    }
+
+    private Ticket ticket(TICKET_STATUS status) {
+        Ticket ticket = new Ticket();
+        ticket.setId(UUID.randomUUID());
+        ticket.setStatus(status);
+        return ticket;
+    }
+
+    // What a refresh after the bulk update reads back from the row
+    private void refreshLoads(Ticket ticket, TICKET_STATUS status) {
+        when(entityManager.contains(ticket)).thenReturn(true);
+        doAnswer(invocation -> {
+            ticket.setStatus(status);
+            return null;
+        }).when(entityManager).refresh(ticket);
+    }
+
+    @Test
+    void reserveTicket_shouldReserveWithOneConditionalUpdateAndRefresh() {
+        // Given
+        Ticket ticket = ticket(TICKET_STATUS.AVAILABLE);
+        when(ticketRepository.compareAndSetStatus(ticket.getId(), TICKET_STATUS.AVAILABLE, TICKET_STATUS.RESERVED))
+                .thenReturn(1);
+        when(ticketRepository.getReferenceById(ticket.getId())).thenReturn(ticket);
+        refreshLoads(ticket, TICKET_STATUS.RESERVED);
+
+        // When
+        Ticket reserved = ticketService.reserveTicket(ticket.getId());
+
+        // Then
+        assertEquals(TICKET_STATUS.RESERVED, reserved.getStatus());
+        verify(ticketInventory).claim(ticket.getId());
+        verify(ticketInventory).releaseOnRollback(ticket.getId());
+        verify(bookingMetrics, never()).conflict(any());
+    }
+
+    @Test
+    void reserveTicket_shouldRejectWhenRowWasTakenAndRecordItsStatus() {
+        // Given
+        Ticket ticket = ticket(TICKET_STATUS.AVAILABLE);
+        when(ticketRepository.compareAndSetStatus(ticket.getId(), TICKET_STATUS.AVAILABLE, TICKET_STATUS.RESERVED))
+                .thenReturn(0);
+        when(ticketRepository.findById(ticket.getId())).thenReturn(Optional.of(ticket));
+        refreshLoads(ticket, TICKET_STATUS.SOLD);
+
+        // When
+        assertThrows(TicketNotAvailableException.class, () -> ticketService.reserveTicket(ticket.getId()));
+
+        // Then the in-memory seat takes the database status instead of being released
+        verify(ticketInventory).record(ticket.getId(), TICKET_STATUS.SOLD);
+        verify(ticketInventory, never()).release(any());
+        verify(bookingMetrics).conflict("ticket_cas");
+    }
+
+    @Test
+    void markAvailable_shouldReleaseReservedTicket() {
+        // Given
+        Ticket ticket = ticket(TICKET_STATUS.RESERVED);
+        when(ticketRepository.compareAndSetStatus(ticket.getId(), TICKET_STATUS.RESERVED, TICKET_STATUS.AVAILABLE))
+                .thenReturn(1);
+        refreshLoads(ticket, TICKET_STATUS.AVAILABLE);
+
+        // When
+        ticketService.markAvailable(ticket);
+
+        // Then
+        assertEquals(TICKET_STATUS.AVAILABLE, ticket.getStatus());
+        verify(ticketInventory).recordAfterCommit(ticket.getId(), TICKET_STATUS.AVAILABLE);
+    }
+
+    @Test
+    void markAvailable_shouldAcceptTicketThatIsAlreadyAvailable() {
+        // Given
+        Ticket ticket = ticket(TICKET_STATUS.RESERVED);
+        when(ticketRepository.compareAndSetStatus(ticket.getId(), TICKET_STATUS.RESERVED, TICKET_STATUS.AVAILABLE))
+                .thenReturn(0);
+        refreshLoads(ticket, TICKET_STATUS.AVAILABLE);
+
+        // When
+        ticketService.markAvailable(ticket);
+
+        // Then
+        verify(ticketInventory, never()).recordAfterCommit(any(), any());
+        verify(bookingMetrics, never()).conflict(any());
+    }
+
+    @Test
+    void markAvailable_shouldRefuseToReleaseSoldTicket() {
+        // Given
+        Ticket ticket = ticket(TICKET_STATUS.RESERVED);
+        when(ticketRepository.compareAndSetStatus(ticket.getId(), TICKET_STATUS.RESERVED, TICKET_STATUS.AVAILABLE))
+                .thenReturn(0);
+        refreshLoads(ticket, TICKET_STATUS.SOLD);
+
+        // When & Then
+        assertThrows(TicketNotAvailableException.class, () -> ticketService.markAvailable(ticket));
+        assertEquals(TICKET_STATUS.SOLD, ticket.getStatus());
+        verify(ticketInventory, never()).recordAfterCommit(any(), any());
+        verify(bookingMetrics).conflict("ticket_cas");
+    }
+
+    @Test
+    void markSold_shouldSellTicketUnlessAlreadySold() {
+        // Given
+        Ticket reserved = ticket(TICKET_STATUS.RESERVED);
+        Ticket sold = ticket(TICKET_STATUS.SOLD);
+        when(ticketRepository.updateStatusUnless(reserved.getId(), TICKET_STATUS.SOLD, TICKET_STATUS.SOLD)).thenReturn(1);
+        when(ticketRepository.updateStatusUnless(sold.getId(), TICKET_STATUS.SOLD, TICKET_STATUS.SOLD)).thenReturn(0);
+
+        // When
+        ticketService.markSold(reserved);
+
+        // Then
+        verify(ticketInventory).recordAfterCommit(reserved.getId(), TICKET_STATUS.SOLD);
+        assertThrows(TicketNotAvailableException.class, () -> ticketService.markSold(sold));
+        verify(bookingMetrics).conflict("ticket_cas");
+    }
+}
@@ -0,0 +1,33 @@
+package com.oleksandr.registerms.config;
+
+import com.oleksandr.common.id.UuidV7;
+import com.oleksandr.registerms.entity.BlacklistedToken;
+import com.oleksandr.registerms.entity.users.User;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.r2dbc.mapping.event.BeforeConvertCallback;
+import reactor.core.publisher.Mono;
+
+/**
+ * Assigns time-ordered UUIDv7 ids to new rows saved through the repositories.
+ * The id stays null until here, so {@code save()} still treats the entity as new and inserts it.
+ */
+@Configuration
+public class IdGenerationConfig {
+
+    @Bean
+    public BeforeConvertCallback<User> userIdCallback() {
+        return (user, table) -> {
+            if (user.getId() == null) user.setId(UuidV7.next());
+            return Mono.just(user);
+        };
+    }
+
+    @Bean
+    public BeforeConvertCallback<BlacklistedToken> blacklistedTokenIdCallback() {
+        return (token, table) -> {
+            if (token.getId() == null) token.setId(UuidV7.next());
+            return Mono.just(token);
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.oleksandr.registerms.config;
+
+import com.oleksandr.common.notification.NotificationRequest;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderOptions;
+
+/**
+ * Reactive Kafka sender built from the {@code spring.kafka.producer.*} properties, so batching,
+ * linger, compression and acks are configured in one place. Records are handed to the producer
+ * on the sender's own thread, never on a Netty event loop.
+ */
+@Configuration
+public class KafkaSenderConfig {
+
+    @Bean(destroyMethod = "close")
+    public KafkaSender<String, NotificationRequest> notificationSender(KafkaProperties kafkaProperties) {
+        SenderOptions<String, NotificationRequest> options =
+                SenderOptions.create(kafkaProperties.buildProducerProperties(null));
+        return KafkaSender.create(options);
+    }
+}
@@ -1,6 +1,7 @@
 package com.oleksandr.registerms.configuration;
 
 import com.oleksandr.registerms.security.JwtAuthenticationFilter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
@@ -26,8 +27,8 @@ public SecurityConfig(JwtAuthenticationFilter jwtAuthenticationFilter) {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder(){
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
@@ -55,6 +56,7 @@ public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
                 .authorizeExchange(exchange -> exchange
                         // Swagger UI & OpenAPI docs
                         .pathMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/webjars/**").permitAll()
+                        .pathMatchers("/actuator/health", "/actuator/metrics/**", "/actuator/prometheus").permitAll()
                         // open auth endpoints
                         .pathMatchers("/auth/**").permitAll()
                         .anyExchange().authenticated()
@@ -5,6 +5,7 @@
 import com.oleksandr.registerms.dto.LoginRegister.RegisterRequestDTO;
 import com.oleksandr.registerms.dto.LoginRegister.RegisterResponseDTO;
 import com.oleksandr.registerms.entity.TokenPair;
+import com.oleksandr.registerms.jwt.JwtTokenProvider;
 import com.oleksandr.common.dto.AuthUserDTO;
 import com.oleksandr.registerms.service.BlacklistService;
 import com.oleksandr.registerms.service.MonolithNotificationService;
@@ -31,6 +32,7 @@ public class UserController {
     private final UserService userService;
     private final BlacklistService blacklistService;
     private final MonolithNotificationService monolithNotificationService;
+    private final JwtTokenProvider jwtTokenProvider;
     private final boolean SecureValue = false;
 
     @PostMapping("/register")
@@ -113,16 +115,11 @@ public Mono<ResponseEntity<Object>> logout(
 
         String finalAccessToken = accessToken;
 
+        // One epoch per user revokes every access token issued so far, the Monolith keeps its own copy
         return userService.logout(refreshToken)
-                .then(Mono.defer(() -> {
-                    if (finalAccessToken != null && !finalAccessToken.isBlank()) {
-                        UUID userId = extractUserIdFromToken(finalAccessToken);
-
-                        return blacklistService.addToBlacklist(finalAccessToken, userId, 3600)
-                                .then(monolithNotificationService.notifyBlacklist(finalAccessToken));
-                    }
-                    return Mono.empty();
-                }))
+                .switchIfEmpty(Mono.fromCallable(() -> extractUserIdFromToken(finalAccessToken)))
+                .flatMap(userId -> blacklistService.revokeTokensOf(userId)
+                        .flatMap(revokedBefore -> monolithNotificationService.notifyRevocation(userId, revokedBefore)))
                 .thenReturn(ResponseEntity.noContent()
                         .header("Set-Cookie", ResponseCookie.from("refreshToken", "")
                                 .httpOnly(true)
@@ -147,25 +144,17 @@ public Mono<ResponseEntity<Object>> logout(
     }
 
 
+    // Only a verified token may name the user, otherwise anyone could revoke someone else's sessions
     private UUID extractUserIdFromToken(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
         try {
-            String[] parts = token.split("\\.");
-            if (parts.length < 2) {
-                return UUID.randomUUID();
-            }
-
-            String payload = new String(java.util.Base64.getUrlDecoder().decode(parts[1]));
-            int subIndex = payload.indexOf("\"sub\":\"");
-            if (subIndex >= 0) {
-                int start = subIndex + 7;
-                int end = payload.indexOf("\"", start);
-                String uuidStr = payload.substring(start, end);
-                return UUID.fromString(uuidStr);
-            }
+            return UUID.fromString(jwtTokenProvider.getSubject(token));
         } catch (Exception e) {
             log.warn("Failed to extract userId from token: {}", e.getMessage());
+            return null;
         }
-        return UUID.randomUUID();
     }
 
 
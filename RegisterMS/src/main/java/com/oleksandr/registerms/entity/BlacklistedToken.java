@@ -21,8 +21,8 @@ public class BlacklistedToken {
     @Id
     private UUID id;
 
-    @Column("token")
-    private String token;
+    @Column("token_hash")
+    private byte[] tokenHash;
 
     @Column("user_id")
     private UUID userId;
@@ -16,12 +16,12 @@
 public class RefreshToken {
     @Id
     private UUID id;
-    private String token;
+    private byte[] tokenHash;
     private UUID userId;
     private Instant expiryDate;
 
-    public RefreshToken(String token, UUID userId, Instant expiryDate) {
-        this.token = token;
+    public RefreshToken(byte[] tokenHash, UUID userId, Instant expiryDate) {
+        this.tokenHash = tokenHash;
         this.userId = userId;
         this.expiryDate = expiryDate;
     }
@@ -0,0 +1,30 @@
+package com.oleksandr.registerms.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("user_token_revocations")
+public class UserTokenRevocation {
+
+    @Id
+    @Column("user_id")
+    private UUID userId;
+
+    @Column("revoked_before")
+    private Instant revokedBefore;
+
+    @Column("expires_at")
+    private Instant expiresAt;
+}
@@ -44,6 +44,13 @@ public ResponseEntity<ErrorResponseDTO> handleUserExists(UserAlreadyExistsExcept
                 .body(buildErrorDTO(HttpStatus.CONFLICT, ex.getMessage(), exchange));
     }
 
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ErrorResponseDTO> handleHashingBusy(PasswordHashingBusyException ex, ServerWebExchange exchange) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header("Retry-After", "1")
+                .body(buildErrorDTO(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage(), exchange));
+    }
+
     @ExceptionHandler(ServerWebInputException.class)
     public ResponseEntity<ErrorResponseDTO> handleValidation(ServerWebInputException ex, ServerWebExchange exchange) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
@@ -1,5 +1,6 @@
 package com.oleksandr.registerms.jwt;
 
+import com.oleksandr.common.constants.CommonConstants;
 import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.*;
 import org.springframework.stereotype.Component;
@@ -24,6 +25,7 @@ public String generateToken(String subject) {
         JwtClaimsSet claims = JwtClaimsSet.builder()
                 .issuer(props.getIssuer())
                 .issuedAt(now)
+                .claim(CommonConstants.ISSUED_AT_MILLIS_CLAIM, now.toEpochMilli())
                 .expiresAt(now.plusSeconds(props.getExpirationSeconds()))
                 .subject(subject)
                 .build();
@@ -1,18 +1,54 @@
 package com.oleksandr.registerms.kafka;
 
 import com.oleksandr.common.notification.NotificationRequest;
-import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RetriableException;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderRecord;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
+
+@Slf4j
 @Service
-@RequiredArgsConstructor
 public class KafkaProducer {
-    private final KafkaTemplate<String, NotificationRequest> kafkaTemplate;
 
-    public Mono<Void> sendMessage(NotificationRequest message){
-        kafkaTemplate.send("mailNotifications", message.userForMailDTO().mailAddress(), message);
-        return null;
+    private static final String TOPIC = "mailNotifications";
+
+    private final KafkaSender<String, NotificationRequest> kafkaSender;
+    private final Retry retry;
+
+    public KafkaProducer(KafkaSender<String, NotificationRequest> kafkaSender,
+                         @Value("${notification.kafka.retries:3}") int retries,
+                         @Value("${notification.kafka.retry-backoff-ms:200}") long retryBackoffMillis) {
+        this.kafkaSender = kafkaSender;
+        this.retry = Retry.backoff(retries, Duration.ofMillis(retryBackoffMillis))
+                .filter(KafkaProducer::isRetriable);
+    }
+
+    /**
+     * Completes once the broker acknowledged the record. Retriable failures, such as a metadata
+     * timeout, are retried with backoff before the error is passed on.
+     */
+    public Mono<Void> sendMessage(NotificationRequest message) {
+        String key = message.userForMailDTO().mailAddress();
+        return Mono.defer(() -> kafkaSender
+                        .send(Mono.just(SenderRecord.create(new ProducerRecord<>(TOPIC, key, message), key)))
+                        .single())
+                .retryWhen(retry)
+                .doOnNext(result -> log.debug("Notification for {} acknowledged at {}-{}@{}", result.correlationMetadata(),
+                        TOPIC, result.recordMetadata().partition(), result.recordMetadata().offset()))
+                .then();
+    }
+
+    private static boolean isRetriable(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RetriableException) return true;
+        }
+        return false;
     }
 }
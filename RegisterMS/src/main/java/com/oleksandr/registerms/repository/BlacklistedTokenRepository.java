@@ -12,7 +12,7 @@
 @Repository
 public interface BlacklistedTokenRepository extends ReactiveCrudRepository<BlacklistedToken, UUID> {
 
-    Mono<BlacklistedToken> findByToken(String token);
+    Mono<BlacklistedToken> findByTokenHash(byte[] tokenHash);
 
     @Query("DELETE FROM blacklisted_tokens WHERE expires_at < :now")
     Mono<Void> deleteExpiredTokens(Instant now);
@@ -10,7 +10,7 @@
 
 @Repository
 public interface RefreshTokenRepository extends ReactiveCrudRepository<RefreshToken, UUID> {
-    Mono<RefreshToken> findByToken(String token);
+    Mono<RefreshToken> findByTokenHash(byte[] tokenHash);
     Mono<Void> deleteByUserId(UUID userId);
     Mono<RefreshToken> findByUserId(UUID userId);
 }
@@ -1,6 +1,7 @@
 package com.oleksandr.registerms.repository;
 
 import com.oleksandr.registerms.entity.users.User;
+import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Mono;
@@ -11,4 +12,8 @@
 public interface UserRepository extends ReactiveCrudRepository<User, UUID> {
     Mono<User> findByUsername(String username);
     Mono<User> findByEmail(String mail);
+
+    // Only replaces the hash that was verified, a concurrent password change wins
+    @Query("UPDATE users SET password = :newPassword WHERE id = :id AND password = :oldPassword")
+    Mono<Void> updatePassword(UUID id, String oldPassword, String newPassword);
 }
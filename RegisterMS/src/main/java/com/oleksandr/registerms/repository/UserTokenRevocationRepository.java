@@ -0,0 +1,24 @@
+package com.oleksandr.registerms.repository;
+
+import com.oleksandr.registerms.entity.UserTokenRevocation;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface UserTokenRevocationRepository extends ReactiveCrudRepository<UserTokenRevocation, UUID> {
+
+    @Query("INSERT INTO user_token_revocations (user_id, revoked_before, expires_at) " +
+           "VALUES (:userId, :revokedBefore, :expiresAt) " +
+           "ON CONFLICT (user_id) DO UPDATE SET " +
+           "revoked_before = GREATEST(user_token_revocations.revoked_before, EXCLUDED.revoked_before), " +
+           "expires_at = GREATEST(user_token_revocations.expires_at, EXCLUDED.expires_at)")
+    Mono<Void> upsert(UUID userId, Instant revokedBefore, Instant expiresAt);
+
+    @Query("DELETE FROM user_token_revocations WHERE expires_at < :now")
+    Mono<Void> deleteExpired(Instant now);
+}
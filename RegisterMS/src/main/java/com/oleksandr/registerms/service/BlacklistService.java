@@ -1,13 +1,17 @@
 package com.oleksandr.registerms.service;
 
+import com.oleksandr.common.token.TokenDigest;
 import com.oleksandr.registerms.entity.BlacklistedToken;
+import com.oleksandr.registerms.jwt.JwtProperties;
 import com.oleksandr.registerms.repository.BlacklistedTokenRepository;
+import com.oleksandr.registerms.repository.UserTokenRevocationRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.UUID;
 
 @Service
@@ -16,11 +20,12 @@
 public class BlacklistService {
 
     private final BlacklistedTokenRepository blacklistRepository;
+    private final UserTokenRevocationRepository userRevocationRepository;
+    private final JwtProperties jwtProperties;
 
     public Mono<Void> addToBlacklist(String token, UUID userId, long expirationSeconds) {
         BlacklistedToken blacklistedToken = BlacklistedToken.builder()
-                .id(UUID.randomUUID())
-                .token(token)
+                .tokenHash(TokenDigest.sha256(token))
                 .userId(userId)
                 .blacklistedAt(Instant.now())
                 .expiresAt(Instant.now().plusSeconds(expirationSeconds))
@@ -31,8 +36,23 @@ public Mono<Void> addToBlacklist(String token, UUID userId, long expirationSecon
                 .then();
     }
 
+    /**
+     * Revokes every access token of the user issued before now with one row per user.
+     * The epoch has millisecond precision and is compared with the {@code iat_ms} claim, so a
+     * token from a login right after the logout, even within the same second, stays valid.
+     * Returns the epoch.
+     */
+    public Mono<Instant> revokeTokensOf(UUID userId) {
+        Instant revokedBefore = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+        Instant expiresAt = revokedBefore.plusSeconds(jwtProperties.getExpirationSeconds());
+
+        return userRevocationRepository.upsert(userId, revokedBefore, expiresAt)
+                .doOnSuccess(v -> log.info("Tokens of user {} issued before {} revoked", userId, revokedBefore))
+                .thenReturn(revokedBefore);
+    }
+
     public Mono<Boolean> isBlacklisted(String token) {
-        return blacklistRepository.findByToken(token)
+        return blacklistRepository.findByTokenHash(TokenDigest.sha256(token))
                 .map(blacklistedToken -> {
                     // Проверить не истёк ли
                     return blacklistedToken.getExpiresAt().isAfter(Instant.now());
@@ -41,7 +61,9 @@ public Mono<Boolean> isBlacklisted(String token) {
     }
 
     public Mono<Void> cleanupExpiredTokens() {
-        return blacklistRepository.deleteExpiredTokens(Instant.now())
+        Instant now = Instant.now();
+        return blacklistRepository.deleteExpiredTokens(now)
+                .then(userRevocationRepository.deleteExpired(now))
                 .doOnSuccess(v -> log.info("Expired tokens cleaned up"));
     }
 }
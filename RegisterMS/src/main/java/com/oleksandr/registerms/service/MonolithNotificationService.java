@@ -1,6 +1,7 @@
 package com.oleksandr.registerms.service;
 
 import com.oleksandr.registerms.dto.AddToBlacklistRequest;
+import com.oleksandr.registerms.dto.RevokeUserTokensRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,6 +9,9 @@
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.time.Instant;
+import java.util.UUID;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -29,4 +33,16 @@ public Mono<Void> notifyBlacklist(String token) {
                 .doOnError(ex -> log.error("Failed to notify Monolith: {}", ex.getMessage()))
                 .onErrorResume(throwable -> Mono.empty()); // Не падать если Monolith недоступен
     }
+
+    public Mono<Void> notifyRevocation(UUID userId, Instant revokedBefore) {
+        return webClientBuilder.build()
+                .post()
+                .uri(monolithUrl + "/api/internal/blacklist/revoke-user")
+                .bodyValue(new RevokeUserTokensRequest(userId, revokedBefore))
+                .retrieve()
+                .bodyToMono(Void.class)
+                .doOnSuccess(v -> log.info("Monolith notified about revoked tokens of user {}", userId))
+                .doOnError(ex -> log.error("Failed to notify Monolith: {}", ex.getMessage()))
+                .onErrorResume(throwable -> Mono.empty());
+    }
 }
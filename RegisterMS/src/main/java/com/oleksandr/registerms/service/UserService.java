@@ -1,5 +1,7 @@
 package com.oleksandr.registerms.service;
 
+import com.oleksandr.common.id.UuidV7;
+import com.oleksandr.common.token.TokenDigest;
 import com.oleksandr.common.notification.NotificationRequest;
 import com.oleksandr.registerms.dto.LoginRegister.LoginRequestDTO;
 import com.oleksandr.registerms.dto.LoginRegister.LoginResponseDTO;
@@ -17,13 +19,13 @@
 import com.oleksandr.registerms.kafka.KafkaProducer;
 import com.oleksandr.registerms.repository.RefreshTokenRepository;
 import com.oleksandr.registerms.repository.UserRepository;
+import com.oleksandr.registerms.security.PasswordHasher;
 import com.oleksandr.registerms.util.UserMapper;
 import com.oleksandr.registerms.util.uservalidation.UserLoginValidator;
 import com.oleksandr.registerms.util.uservalidation.UserRegisterValidator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
@@ -38,7 +40,7 @@ public class UserService {
     private final UserRepository userRepository;
     private final UserRegisterValidator userRegisterValidator;
     private final UserLoginValidator userLoginValidator;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserMapper userMapper;
     private final RefreshTokenRepository refreshTokenRepository;
@@ -52,47 +54,55 @@ public class UserService {
 
     public Mono<RegisterResponseDTO> registerUser(RegisterRequestDTO dto) {
         return userRegisterValidator.validateRequest(dto)
-                .then(Mono.defer(() -> {
-                    String hashedPassword = passwordEncoder.encode(dto.getPassword());
+                .then(Mono.defer(() -> passwordHasher.encode(dto.getPassword())))
+                .flatMap(hashedPassword -> {
                     User user = userMapper.mapFromRegisterDTO(dto, hashedPassword);
                     return userRepository.save(user);
-                }))
+                })
                 .doOnSuccess(savedUser -> log.info("User registered: {}", savedUser.getUsername()))
                 .flatMap(savedUser -> {
                     String accessToken = jwtTokenProvider.generateToken(savedUser.getId().toString());
                     String refreshToken = UUID.randomUUID().toString();
 
                     RefreshToken refreshTokenEntity = new RefreshToken(
-                            UUID.randomUUID(),               // id
-                            refreshToken,
+                            UuidV7.next(),               // id
+                            TokenDigest.sha256(refreshToken),
                             savedUser.getId(),
                             Instant.now().plusSeconds(SECONDS_IN_7_DAYS)
                     );
 
                     return refreshTokenRepository.deleteByUserId(savedUser.getId())
                             .then(r2dbcEntityTemplate.insert(refreshTokenEntity))
-                            .then(kafkaProducer.sendMessage(emailMapper.buildRegistrationNotificationRequest(savedUser)))
+                            .doOnSuccess(inserted -> sendRegistrationNotification(savedUser))
                             .thenReturn(new RegisterResponseDTO(accessToken, refreshToken, SECONDS_1_HOUR));
                 });
     }
 
+    // Not awaited: the registration response does not wait for the broker, failures are logged after retries
+    private void sendRegistrationNotification(User user) {
+        kafkaProducer.sendMessage(emailMapper.buildRegistrationNotificationRequest(user))
+                .subscribe(null, ex -> log.error("Registration notification for user {} was not delivered: {}",
+                        user.getUsername(), ex.getMessage()));
+    }
+
     public Mono<LoginResponseDTO> loginUser(LoginRequestDTO dto) {
         return userLoginValidator.validateRequest(dto)
                 .then(userRepository.findByUsername(dto.getUsername())
                         .switchIfEmpty(Mono.error(new UserNotFoundException("User not found")))
+                        .filterWhen(user -> passwordHasher.matches(dto.getPassword(), user.getPassword()))
+                        .switchIfEmpty(Mono.defer(() -> {
+                            log.warn("Invalid password for user: {}", dto.getUsername());
+                            return Mono.error(new InvalidPasswordException("Invalid password"));
+                        }))
+                        .flatMap(user -> rehashIfNeeded(user, dto.getPassword()).thenReturn(user))
                         .flatMap(user -> {
-                            if (!passwordEncoder.matches(dto.getPassword(), user.getPassword())) {
-                                log.warn("Invalid password for user: {}", dto.getUsername());
-                                return Mono.error(new InvalidPasswordException("Invalid password"));
-                            }
-
                             log.info("User successful login: {}", dto.getUsername());
                             String accessToken = jwtTokenProvider.generateToken(user.getId().toString());
                             String refreshToken = UUID.randomUUID().toString();
 
                             RefreshToken refreshTokenEntity = new RefreshToken(
-                                    UUID.randomUUID(),
-                                    refreshToken,
+                                    UuidV7.next(),
+                                    TokenDigest.sha256(refreshToken),
                                     user.getId(),
                                     Instant.now().plusSeconds(SECONDS_IN_7_DAYS)
                             );
@@ -103,12 +113,26 @@ public Mono<LoginResponseDTO> loginUser(LoginRequestDTO dto) {
                         }));
     }
 
+    // A failed rehash must not fail the login, the old hash still verifies and is retried next time
+    private Mono<Void> rehashIfNeeded(User user, String rawPassword) {
+        if (!passwordHasher.needsRehash(user.getPassword())) {
+            return Mono.empty();
+        }
+        return passwordHasher.encode(rawPassword)
+                .flatMap(newHash -> userRepository.updatePassword(user.getId(), user.getPassword(), newHash))
+                .doOnSuccess(v -> log.info("Password of user {} rehashed with the current work factor", user.getUsername()))
+                .onErrorResume(ex -> {
+                    log.warn("Rehash of user {} failed: {}", user.getUsername(), ex.getMessage());
+                    return Mono.empty();
+                });
+    }
+
     public Mono<TokenPair> refreshToken(String refreshTokenValue) {
         if (refreshTokenValue == null || refreshTokenValue.isBlank()) {
             return Mono.error(new InvalidTokenException("Refresh token is empty"));
         }
 
-        return refreshTokenRepository.findByToken(refreshTokenValue)
+        return refreshTokenRepository.findByTokenHash(TokenDigest.sha256(refreshTokenValue))
                 .switchIfEmpty(Mono.error(new InvalidTokenException("Refresh token not found")))
                 .flatMap(storedToken -> {
                     if (storedToken.getExpiryDate().isBefore(Instant.now())) {
@@ -124,8 +148,8 @@ public Mono<TokenPair> refreshToken(String refreshTokenValue) {
                                 String newRefresh = UUID.randomUUID().toString();
 
                                 RefreshToken newRefreshToken = new RefreshToken(
-                                        UUID.randomUUID(),
-                                        newRefresh,
+                                        UuidV7.next(),
+                                        TokenDigest.sha256(newRefresh),
                                         user.getId(),
                                         Instant.now().plusSeconds(SECONDS_IN_7_DAYS)
                                 );
@@ -137,10 +161,13 @@ public Mono<TokenPair> refreshToken(String refreshTokenValue) {
                 });
     }
 
-    public Mono<Void> logout(String refreshTokenValue) {
-        return refreshTokenRepository.findByToken(refreshTokenValue)
-                .flatMap(refreshTokenRepository::delete)
-                .then();
+    /**
+     * Deletes the refresh token and emits the id of the user it belonged to, or nothing if it is unknown.
+     */
+    public Mono<UUID> logout(String refreshTokenValue) {
+        return refreshTokenRepository.findByTokenHash(TokenDigest.sha256(refreshTokenValue))
+                .flatMap(storedToken -> refreshTokenRepository.delete(storedToken)
+                        .thenReturn(storedToken.getUserId()));
     }
 
     public Mono<User> findById(UUID id) {
@@ -0,0 +1,19 @@
+-- Refresh and blacklisted tokens are looked up by their SHA-256 digest (32 bytes)
+-- instead of the token text, which keeps both the rows and the unique indexes small.
+
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_hash BYTEA;
+UPDATE refresh_tokens SET token_hash = sha256(convert_to(token, 'UTF8')) WHERE token_hash IS NULL;
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+DROP INDEX IF EXISTS idx_refresh_tokens_token;
+ALTER TABLE refresh_tokens DROP COLUMN token;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_refresh_tokens_token_hash ON refresh_tokens(token_hash);
+
+ALTER TABLE blacklisted_tokens ADD COLUMN IF NOT EXISTS token_hash BYTEA;
+UPDATE blacklisted_tokens SET token_hash = sha256(convert_to(token, 'UTF8')) WHERE token_hash IS NULL;
+ALTER TABLE blacklisted_tokens ALTER COLUMN token_hash SET NOT NULL;
+DROP INDEX IF EXISTS idx_blacklisted_tokens_token;
+ALTER TABLE blacklisted_tokens DROP COLUMN token;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_blacklisted_tokens_token_hash ON blacklisted_tokens(token_hash);
+
+COMMENT ON COLUMN refresh_tokens.token_hash IS 'SHA-256 of the refresh token';
+COMMENT ON COLUMN blacklisted_tokens.token_hash IS 'SHA-256 of the revoked JWT access token';
@@ -0,0 +1,12 @@
+-- One row per user: access tokens issued at or before revoked_before are no longer accepted.
+-- Logout moves the epoch forward instead of inserting every access token into blacklisted_tokens.
+CREATE TABLE IF NOT EXISTS user_token_revocations (
+    user_id UUID PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    revoked_before TIMESTAMP NOT NULL,
+    expires_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_user_token_revocations_expires_at ON user_token_revocations(expires_at);
+
+COMMENT ON COLUMN user_token_revocations.revoked_before IS 'Access tokens with iat up to this second are revoked';
+COMMENT ON COLUMN user_token_revocations.expires_at IS 'revoked_before plus the access token lifetime, the row is useless after it';
@@ -0,0 +1,2 @@
+-- The epoch is now compared in milliseconds with the iat_ms claim, strictly before
+COMMENT ON COLUMN user_token_revocations.revoked_before IS 'Access tokens with iat_ms before this instant are revoked';
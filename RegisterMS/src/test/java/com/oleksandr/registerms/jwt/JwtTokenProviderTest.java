@@ -0,0 +1,44 @@
+package com.oleksandr.registerms.jwt;
+
+import com.oleksandr.common.constants.CommonConstants;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JwtTokenProviderTest {
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties props = new JwtProperties();
+        props.setSecretKey("MyVerySecretKeyForJWTTokenGenerationThatIsAtLeast256BitsLong12345");
+        props.setIssuer("test");
+        props.setExpirationSeconds(3600);
+        JwtConfig config = new JwtConfig(props);
+        decoder = config.jwtDecoder();
+        jwtTokenProvider = new JwtTokenProvider(config.jwtEncoder(), decoder, props);
+    }
+
+    @Test
+    void generateToken_shouldCarryIssueTimeInMillisWithinIatSecond() {
+        // Given
+        long before = Instant.now().toEpochMilli();
+
+        // When
+        Jwt jwt = decoder.decode(jwtTokenProvider.generateToken("user"));
+
+        // Then
+        Number issuedAtMillis = jwt.getClaim(CommonConstants.ISSUED_AT_MILLIS_CLAIM);
+        assertNotNull(issuedAtMillis);
+        assertTrue(issuedAtMillis.longValue() >= before);
+        assertNotNull(jwt.getIssuedAt());
+        assertEquals(jwt.getIssuedAt().getEpochSecond(), issuedAtMillis.longValue() / 1000);
+    }
+}
@@ -0,0 +1,74 @@
+package com.oleksandr.registerms.kafka;
+
+import com.oleksandr.common.enums.MAIL_TYPE;
+import com.oleksandr.common.notification.NotificationRequest;
+import com.oleksandr.common.notification.UserForMailDTO;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.kafka.sender.KafkaSender;
+import reactor.kafka.sender.SenderResult;
+import reactor.test.StepVerifier;
+
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class KafkaProducerTest {
+
+    @Mock
+    private KafkaSender<String, NotificationRequest> kafkaSender;
+    @Mock
+    private SenderResult<String> senderResult;
+
+    private KafkaProducer kafkaProducer;
+    private NotificationRequest request;
+
+    @BeforeEach
+    void setUp() {
+        kafkaProducer = new KafkaProducer(kafkaSender, 2, 1);
+        request = new NotificationRequest(new UserForMailDTO("user", "user@example.com"), MAIL_TYPE.REGISTRATION_CONFIRM, Map.of());
+    }
+
+    @Test
+    void sendMessage_shouldCompleteOnceRecordIsAcknowledged() {
+        // Given
+        when(senderResult.recordMetadata()).thenReturn(new RecordMetadata(new TopicPartition("mailNotifications", 0), 7, 0, 0, 0, 0));
+        doReturn(Flux.just(senderResult)).when(kafkaSender).send(any());
+
+        // When & Then
+        StepVerifier.create(kafkaProducer.sendMessage(request)).verifyComplete();
+        verify(kafkaSender, times(1)).send(any());
+    }
+
+    @Test
+    void sendMessage_shouldRetryRetriableFailure() {
+        // Given
+        when(senderResult.recordMetadata()).thenReturn(new RecordMetadata(new TopicPartition("mailNotifications", 0), 7, 0, 0, 0, 0));
+        doReturn(Flux.error(new TimeoutException("metadata not available")), Flux.just(senderResult))
+                .when(kafkaSender).send(any());
+
+        // When & Then
+        StepVerifier.create(kafkaProducer.sendMessage(request)).verifyComplete();
+        verify(kafkaSender, times(2)).send(any());
+    }
+
+    @Test
+    void sendMessage_shouldFailWithoutRetryOnFatalError() {
+        // Given
+        doReturn(Flux.error(new RecordTooLargeException("too large"))).when(kafkaSender).send(any());
+
+        // When & Then
+        StepVerifier.create(kafkaProducer.sendMessage(request)).expectError(RecordTooLargeException.class).verify();
+        verify(kafkaSender, times(1)).send(any());
+    }
+}
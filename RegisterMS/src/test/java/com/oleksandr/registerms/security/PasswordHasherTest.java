@@ -0,0 +1,84 @@
+package com.oleksandr.registerms.security;
+
+import com.oleksandr.registerms.exception.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import reactor.core.Disposable;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHasherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordHasher passwordHasher;
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.destroy();
+    }
+
+    @Test
+    void matches_shouldVerifyOnHashingPoolAndRecordTimer() {
+        // Given
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(4), meterRegistry, 4, 1, 8);
+        String hash = new BCryptPasswordEncoder(4).encode("secret");
+
+        // When & Then
+        StepVerifier.create(passwordHasher.matches("secret", hash)).expectNext(true).verifyComplete();
+        StepVerifier.create(passwordHasher.matches("wrong", hash)).expectNext(false).verifyComplete();
+        assertEquals(2, meterRegistry.get("password.hashing").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void needsRehash_shouldFlagHashWithDifferentWorkFactor() {
+        // Given
+        passwordHasher = new PasswordHasher(new BCryptPasswordEncoder(5), meterRegistry, 5, 1, 8);
+
+        // When & Then
+        assertTrue(passwordHasher.needsRehash(new BCryptPasswordEncoder(4).encode("secret")));
+        assertTrue(passwordHasher.needsRehash(new BCryptPasswordEncoder(6).encode("secret")));
+        assertFalse(passwordHasher.needsRehash(new BCryptPasswordEncoder(5).encode("secret")));
+        assertFalse(passwordHasher.needsRehash("not-a-bcrypt-hash"));
+    }
+
+    @Test
+    void encode_shouldFailFastWhenQueueIsFull() throws InterruptedException {
+        // Given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blocking = new BCryptPasswordEncoder(4) {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.encode(rawPassword);
+            }
+        };
+        passwordHasher = new PasswordHasher(blocking, meterRegistry, 4, 1, 1);
+        Disposable running = passwordHasher.encode("first").subscribe();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        Disposable queued = passwordHasher.encode("second").subscribe();
+
+        // When & Then
+        StepVerifier.create(passwordHasher.encode("third"))
+                .expectError(PasswordHashingBusyException.class)
+                .verify();
+        assertEquals(1, meterRegistry.get("password.hashing.queue").gauge().value());
+        assertEquals(1, meterRegistry.get("password.hashing.rejected").counter().count());
+
+        release.countDown();
+        running.dispose();
+        queued.dispose();
+    }
+}
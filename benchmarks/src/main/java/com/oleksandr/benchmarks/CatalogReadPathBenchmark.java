@@ -0,0 +1,151 @@
+package com.oleksandr.benchmarks;
+
+import com.oleksandr.common.dto.TicketDTO;
+import com.oleksandr.monolith.event.mapper.EventMapper;
+import com.oleksandr.monolith.event.model.Event;
+import com.oleksandr.monolith.event.output.dto.EventSummaryDTO;
+import com.oleksandr.monolith.event.repository.EventRepository;
+import com.oleksandr.monolith.ticket.mapper.TicketMapper;
+import com.oleksandr.monolith.ticket.model.Ticket;
+import com.oleksandr.monolith.ticket.repository.TicketRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.autoconfigure.transaction.TransactionAutoConfiguration;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Catalog read paths against an embedded PostgreSQL: loading managed {@link Event} entities and
+ * copying them through {@link EventMapper}, versus the DTO projections of {@link EventRepository}
+ * and {@link TicketRepository}. Both variants run in read-only transactions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatalogReadPathBenchmark {
+
+    private static final int EVENTS = 500;
+    private static final int DESCRIPTION_LENGTH = 255;
+
+    @Param({"100", "2000"})
+    public int ticketsPerEvent;
+
+    private EmbeddedPostgres postgres;
+    private AnnotationConfigApplicationContext context;
+    private TransactionTemplate readOnly;
+    private EventRepository eventRepository;
+    private TicketRepository ticketRepository;
+    private EventMapper eventMapper;
+    private TicketMapper ticketMapper;
+
+    private final Pageable page = PageRequest.of(3, 20, Sort.by(Sort.Direction.ASC, "eventDate"));
+    private UUID eventId;
+
+    @Configuration
+    @ImportAutoConfiguration({HibernateJpaAutoConfiguration.class, TransactionAutoConfiguration.class,
+            JpaRepositoriesAutoConfiguration.class})
+    @EntityScan("com.oleksandr.monolith")
+    @EnableJpaRepositories(basePackageClasses = {EventRepository.class, TicketRepository.class})
+    static class JpaConfig {
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl("postgres", "postgres"));
+        dataSource.setUsername("postgres");
+
+        context = new AnnotationConfigApplicationContext();
+        context.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark", Map.of(
+                "spring.jpa.hibernate.ddl-auto", "create",
+                "spring.jpa.open-in-view", "false",
+                "spring.jpa.properties.hibernate.jdbc.batch_size", "500",
+                "spring.jpa.properties.hibernate.order_inserts", "true")));
+        context.registerBean(DataSource.class, () -> dataSource);
+        context.register(JpaConfig.class);
+        context.refresh();
+
+        eventRepository = context.getBean(EventRepository.class);
+        ticketRepository = context.getBean(TicketRepository.class);
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+        ticketMapper = new TicketMapper();
+        eventMapper = new EventMapper(ticketMapper);
+
+        seed();
+    }
+
+    // EVENTS catalog entries with a full-length description, one of them with ticketsPerEvent tickets
+    private void seed() {
+        String description = "x".repeat(DESCRIPTION_LENGTH);
+        List<Event> events = new ArrayList<>(EVENTS);
+        for (int i = 0; i < EVENTS; i++) {
+            UUID id = UUID.nameUUIDFromBytes(("catalog-" + i).getBytes());
+            Event event = Fixtures.monolithEvent(id, i == 0 ? Fixtures.ticketIds(ticketsPerEvent, 7) : List.of());
+            event.setDescription(description);
+            event.setEventDate(LocalDateTime.of(2030, 1, 1, 20, 0).plusDays(i));
+            // null versions so the repository persists instead of merging
+            event.setVersion(null);
+            event.getTickets().forEach(t -> t.setVersion(null));
+            events.add(event);
+        }
+        eventId = events.get(0).getId();
+        new TransactionTemplate(context.getBean(PlatformTransactionManager.class))
+                .executeWithoutResult(status -> eventRepository.saveAll(events));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public Page<EventSummaryDTO> summaryPage_entities() {
+        return readOnly.execute(status -> eventRepository.findAll(page).map(eventMapper::mapToSummaryDto));
+    }
+
+    @Benchmark
+    public Page<EventSummaryDTO> summaryPage_projection() {
+        return readOnly.execute(status -> eventRepository.findSummaries(page));
+    }
+
+    @Benchmark
+    public List<TicketDTO> tickets_entities() {
+        return readOnly.execute(status -> {
+            List<Ticket> tickets = eventRepository.findById(eventId).orElseThrow().getTickets();
+            return ticketMapper.mapEntityListToDtoList(tickets);
+        });
+    }
+
+    @Benchmark
+    public List<TicketDTO> tickets_projection() {
+        return readOnly.execute(status -> ticketRepository.findDtosByEventId(eventId));
+    }
+}
@@ -0,0 +1,71 @@
+package com.oleksandr.benchmarks;
+
+import com.oleksandr.common.dto.EventDTO;
+import com.oleksandr.monolith.event.mapper.EventMapper;
+import com.oleksandr.monolith.event.model.Event;
+import com.oleksandr.monolith.ticket.mapper.TicketMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Merging a provider snapshot into an already loaded event, as {@code EventSyncService} and
+ * {@code EventTicketCoordinator} do on every sync. All incoming tickets exist already with a new
+ * price, so every invocation does the same work on the same entity.
+ * {@code updateEventInformation} searches the ticket list per DTO and is quadratic in the ticket count;
+ * {@code updateEntityFromDto} indexes by id first.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CatalogReconciliationBenchmark {
+
+    @Param({"1", "100", "1000", "10000", "50000"})
+    public int ticketsPerEvent;
+
+    private EventMapper monolithMapper;
+    private com.oleksandr.eventprovider.event.mapper.EventMapper providerMapper;
+
+    private Event monolithEvent;
+    private com.oleksandr.eventprovider.event.model.Event providerEvent;
+    private EventDTO snapshot;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        monolithMapper = new EventMapper(new TicketMapper());
+        providerMapper = new com.oleksandr.eventprovider.event.mapper.EventMapper(
+                new com.oleksandr.eventprovider.Ticket.mapper.TicketMapper());
+
+        UUID eventId = UUID.nameUUIDFromBytes("reconciliation".getBytes());
+        List<UUID> ticketIds = Fixtures.ticketIds(ticketsPerEvent, 2024);
+        monolithEvent = Fixtures.monolithEvent(eventId, ticketIds);
+        providerEvent = Fixtures.providerEvent(eventId, ticketIds);
+        snapshot = Fixtures.eventDto(eventId, ticketIds, 5);
+    }
+
+    @Benchmark
+    public Event monolithUpdateEventInformation() {
+        return monolithMapper.updateEventInformation(monolithEvent, snapshot);
+    }
+
+    @Benchmark
+    public Event monolithUpdateEntityFromDto() {
+        monolithMapper.updateEntityFromDto(monolithEvent, snapshot);
+        return monolithEvent;
+    }
+
+    @Benchmark
+    public Event monolithMapToEntityForInsert() {
+        return monolithMapper.mapToEntityForInsert(snapshot);
+    }
+
+    @Benchmark
+    public com.oleksandr.eventprovider.event.model.Event providerUpdateEventInformation() {
+        return providerMapper.updateEventInformation(providerEvent, snapshot);
+    }
+}
@@ -0,0 +1,63 @@
+package com.oleksandr.benchmarks;
+
+import com.oleksandr.common.dto.EventDTO;
+import com.oleksandr.eventprovider.Ticket.mapper.TicketMapper;
+import com.oleksandr.eventprovider.event.mapper.EventMapper;
+import com.oleksandr.eventprovider.event.model.Event;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventProvider mappers used by the {@code /external/events} feed the Monolith syncs from.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventProviderMapperBenchmark {
+
+    @Param({"10", "1000"})
+    public int ticketsPerEvent;
+
+    private EventMapper eventMapper;
+
+    private Event event;
+    private List<Event> page;
+    private EventDTO eventDto;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        eventMapper = new EventMapper(new TicketMapper());
+
+        UUID eventId = UUID.nameUUIDFromBytes("provider-mapper".getBytes());
+        List<UUID> ticketIds = Fixtures.ticketIds(ticketsPerEvent, 7);
+        event = Fixtures.providerEvent(eventId, ticketIds);
+        eventDto = Fixtures.eventDto(eventId, ticketIds, 0);
+        page = List.of(event, event, event, event, event, event, event, event, event, event);
+    }
+
+    @Benchmark
+    public EventDTO eventToDto() {
+        return eventMapper.mapToDto(event);
+    }
+
+    @Benchmark
+    public EventDTO eventToDtoWithoutTickets() {
+        return eventMapper.mapToDtoWithoutTickets(event);
+    }
+
+    @Benchmark
+    public List<EventDTO> eventPageToDto() {
+        return eventMapper.mapListToDtoList(page);
+    }
+
+    @Benchmark
+    public Event eventDtoToEntity() {
+        return eventMapper.mapToEntity(eventDto);
+    }
+}
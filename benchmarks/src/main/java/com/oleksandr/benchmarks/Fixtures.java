@@ -0,0 +1,143 @@
+package com.oleksandr.benchmarks;
+
+import com.oleksandr.common.dto.EventDTO;
+import com.oleksandr.common.dto.TicketDTO;
+import com.oleksandr.common.enums.BOOKING_STATUS;
+import com.oleksandr.common.enums.TICKET_STATUS;
+import com.oleksandr.common.enums.USER_ROLE;
+import com.oleksandr.monolith.booking.model.Booking;
+import com.oleksandr.monolith.event.model.Event;
+import com.oleksandr.monolith.ticket.model.Ticket;
+import com.oleksandr.monolith.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic test data shaped like a synced catalog: one event, {@code n} tickets,
+ * a mix of statuses and place labels like {@code "Row 12, Seat 7"}.
+ */
+final class Fixtures {
+
+    private static final TICKET_STATUS[] STATUSES = TICKET_STATUS.values();
+
+    private Fixtures() {
+    }
+
+    static List<UUID> ticketIds(int n, long seed) {
+        Random random = new Random(seed);
+        List<UUID> ids = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            ids.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        return ids;
+    }
+
+    static EventDTO eventDto(UUID eventId, List<UUID> ticketIds, double priceShift) {
+        List<TicketDTO> tickets = new ArrayList<>(ticketIds.size());
+        for (int i = 0; i < ticketIds.size(); i++) {
+            tickets.add(TicketDTO.builder()
+                    .id(ticketIds.get(i))
+                    .eventId(eventId)
+                    .type(i % 10 == 0 ? "VIP" : "STANDARD")
+                    .price(50 + (i % 7) * 10 + priceShift)
+                    .place(place(i))
+                    .status(STATUSES[i % STATUSES.length])
+                    .build());
+        }
+        return EventDTO.builder()
+                .id(eventId)
+                .name("Benchmark Event")
+                .description("Event used by the mapper benchmarks")
+                .location("Warsaw, Stadion Narodowy")
+                .imageURL("https://example.com/event.jpg")
+                .eventDate(LocalDateTime.of(2030, 6, 1, 20, 0))
+                .tickets(tickets)
+                .build();
+    }
+
+    static Event monolithEvent(UUID eventId, List<UUID> ticketIds) {
+        Event event = new Event();
+        event.setId(eventId);
+        event.setName("Benchmark Event");
+        event.setDescription("Event used by the mapper benchmarks");
+        event.setLocation("Warsaw, Stadion Narodowy");
+        event.setImageURL("https://example.com/event.jpg");
+        event.setEventDate(LocalDateTime.of(2030, 6, 1, 20, 0));
+        event.setVersion(0L);
+
+        List<Ticket> tickets = new ArrayList<>(ticketIds.size());
+        for (int i = 0; i < ticketIds.size(); i++) {
+            Ticket ticket = new Ticket();
+            ticket.setId(ticketIds.get(i));
+            ticket.setEvent(event);
+            ticket.setType(i % 10 == 0 ? "VIP" : "STANDARD");
+            ticket.setPrice(50 + (i % 7) * 10);
+            ticket.setPlace(place(i));
+            ticket.setStatus(STATUSES[i % STATUSES.length]);
+            ticket.setVersion(0L);
+            tickets.add(ticket);
+        }
+        event.setTickets(tickets);
+        return event;
+    }
+
+    static com.oleksandr.eventprovider.event.model.Event providerEvent(UUID eventId, List<UUID> ticketIds) {
+        var event = new com.oleksandr.eventprovider.event.model.Event();
+        event.setId(eventId);
+        event.setExternalId("TM-" + eventId);
+        event.setName("Benchmark Event");
+        event.setDescription("Event used by the mapper benchmarks");
+        event.setLocation("Warsaw, Stadion Narodowy");
+        event.setImageURL("https://example.com/event.jpg");
+        event.setEventDate(LocalDateTime.of(2030, 6, 1, 20, 0));
+
+        List<com.oleksandr.eventprovider.Ticket.model.Ticket> tickets = new ArrayList<>(ticketIds.size());
+        for (int i = 0; i < ticketIds.size(); i++) {
+            var ticket = new com.oleksandr.eventprovider.Ticket.model.Ticket();
+            ticket.setId(ticketIds.get(i));
+            ticket.setEvent(event);
+            ticket.setType(i % 10 == 0 ? "VIP" : "STANDARD");
+            ticket.setPrice(50 + (i % 7) * 10);
+            ticket.setPlace(place(i));
+            ticket.setStatus(STATUSES[i % STATUSES.length]);
+            tickets.add(ticket);
+        }
+        event.setTickets(tickets);
+        return event;
+    }
+
+    static List<Booking> bookings(User user, Event event) {
+        List<Booking> bookings = new ArrayList<>(event.getTickets().size());
+        for (Ticket ticket : event.getTickets()) {
+            Booking booking = new Booking();
+            booking.setId(UUID.nameUUIDFromBytes(ticket.getId().toString().getBytes()));
+            booking.setUser(user);
+            booking.setTicket(ticket);
+            booking.setStatus(BOOKING_STATUS.CREATED);
+            booking.setCreatedAt(LocalDateTime.of(2030, 5, 1, 12, 0));
+            booking.setVersion(0L);
+            bookings.add(booking);
+        }
+        return bookings;
+    }
+
+    static User user() {
+        User user = new User();
+        user.setId(UUID.fromString("00000000-0000-0000-0000-000000000001"));
+        user.setUsername("bench");
+        user.setEmail("bench@example.com");
+        user.setFirstName("Bench");
+        user.setLastName("Mark");
+        user.setPhoneNumber("123456789");
+        user.setRole(USER_ROLE.USER);
+        return user;
+    }
+
+    private static String place(int i) {
+        return "Row " + (i / 50 + 1) + ", Seat " + (i % 50 + 1);
+    }
+}
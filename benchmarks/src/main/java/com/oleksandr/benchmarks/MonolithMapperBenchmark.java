@@ -0,0 +1,97 @@
+package com.oleksandr.benchmarks;
+
+import com.oleksandr.common.dto.EventDTO;
+import com.oleksandr.common.dto.TicketDTO;
+import com.oleksandr.monolith.booking.input.dto.BookingSummaryDTO;
+import com.oleksandr.monolith.booking.mapper.BookingMapper;
+import com.oleksandr.monolith.event.mapper.EventMapper;
+import com.oleksandr.monolith.event.model.Event;
+import com.oleksandr.monolith.event.output.dto.EventSummaryDTO;
+import com.oleksandr.monolith.ticket.mapper.TicketMapper;
+import com.oleksandr.monolith.ticket.model.Ticket;
+import com.oleksandr.monolith.user.mapper.UserMapper;
+import com.oleksandr.monolith.user.model.User;
+import com.oleksandr.monolith.user.output.dto.UserFullDTO;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Monolith mappers on the response paths: catalog pages, event details, ticket lists and bookings.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MonolithMapperBenchmark {
+
+    @Param({"10", "1000"})
+    public int ticketsPerEvent;
+
+    private TicketMapper ticketMapper;
+    private EventMapper eventMapper;
+    private BookingMapper bookingMapper;
+    private UserMapper userMapper;
+
+    private Event event;
+    private List<Event> page;
+    private EventDTO eventDto;
+    private User user;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ticketMapper = new TicketMapper();
+        eventMapper = new EventMapper(ticketMapper);
+        bookingMapper = new BookingMapper();
+        userMapper = new UserMapper(bookingMapper);
+
+        UUID eventId = UUID.nameUUIDFromBytes("monolith-mapper".getBytes());
+        List<UUID> ticketIds = Fixtures.ticketIds(ticketsPerEvent, 42);
+        event = Fixtures.monolithEvent(eventId, ticketIds);
+        eventDto = Fixtures.eventDto(eventId, ticketIds, 0);
+        page = Collections.nCopies(20, event);
+
+        user = Fixtures.user();
+        user.setBookings(Fixtures.bookings(user, event));
+    }
+
+    @Benchmark
+    public EventDTO eventToDto() {
+        return eventMapper.mapToDto(event);
+    }
+
+    @Benchmark
+    public List<EventSummaryDTO> eventPageToSummaries() {
+        return eventMapper.mapListToSummaryList(page);
+    }
+
+    @Benchmark
+    public Event eventDtoToEntity() {
+        return eventMapper.mapToEntityForInsert(eventDto);
+    }
+
+    @Benchmark
+    public List<TicketDTO> ticketsToDto() {
+        return ticketMapper.mapEntityListToDtoList(event.getTickets());
+    }
+
+    @Benchmark
+    public List<Ticket> ticketDtosToEntities() {
+        return ticketMapper.mapTicketsListFromDto(eventDto.tickets());
+    }
+
+    @Benchmark
+    public List<BookingSummaryDTO> bookingsToSummaries() {
+        return bookingMapper.mapListToSummaryListDto(user.getBookings());
+    }
+
+    @Benchmark
+    public UserFullDTO userWithBookingsToDto() {
+        return userMapper.mapToDto(user);
+    }
+}
@@ -0,0 +1,30 @@
+package com.oleksandr.common.catalog;
+
+import com.oleksandr.common.dto.EventDTO;
+import com.oleksandr.common.enums.CATALOG_CHANGE_TYPE;
+
+import java.util.UUID;
+
+/**
+ * Record of the {@value #TOPIC} topic, keyed by event id.
+ * {@code event} carries the full state with tickets and is null for deletions.
+ */
+public record EventCatalogChange(
+    CATALOG_CHANGE_TYPE type,
+    UUID eventId,
+    EventDTO event
+) {
+    public static final String TOPIC = "eventCatalogChanges";
+
+    public static EventCatalogChange created(EventDTO event) {
+        return new EventCatalogChange(CATALOG_CHANGE_TYPE.CREATED, event.id(), event);
+    }
+
+    public static EventCatalogChange updated(EventDTO event) {
+        return new EventCatalogChange(CATALOG_CHANGE_TYPE.UPDATED, event.id(), event);
+    }
+
+    public static EventCatalogChange deleted(UUID eventId) {
+        return new EventCatalogChange(CATALOG_CHANGE_TYPE.DELETED, eventId, null);
+    }
+}
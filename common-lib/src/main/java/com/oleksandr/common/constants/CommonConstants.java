@@ -15,6 +15,10 @@ private CommonConstants() {
     // Headers
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
+
+    // JWT claims
+    // Issue time in epoch milliseconds; iat has whole seconds only, too coarse to order a login after a logout
+    public static final String ISSUED_AT_MILLIS_CLAIM = "iat_ms";
     
     // Date formats
     public static final String DATE_TIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
@@ -0,0 +1,11 @@
+package com.oleksandr.common.dto;
+
+import java.util.List;
+
+/**
+ * Slice of a keyset-paginated listing. {@code nextCursor} is opaque and null on the last slice.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor
+) {}
@@ -9,7 +9,7 @@
 import java.util.List;
 import java.util.UUID;
 
-@Builder
+@Builder(toBuilder = true)
 public record EventDTO(
 
         UUID id,
@@ -29,5 +29,8 @@ public record EventDTO(
         LocalDateTime eventDate,
 
         @Valid
-        List<TicketDTO> tickets
+        List<TicketDTO> tickets,
+
+        // EventContentHash of the fields above, set by EventProvider when tickets are included
+        String contentHash
 ){}
@@ -0,0 +1,7 @@
+package com.oleksandr.common.enums;
+
+public enum CATALOG_CHANGE_TYPE {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -0,0 +1,37 @@
+package com.oleksandr.common.id;
+
+import java.security.SecureRandom;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time-ordered UUIDs (RFC 9562 version 7): a 48-bit Unix millisecond timestamp followed by
+ * random bits, so keys generated later sort after earlier ones and inserts land on the right
+ * edge of a B-tree index. Within one millisecond the 12 {@code rand_a} bits hold a counter,
+ * which keeps ids from this JVM strictly increasing.
+ */
+public final class UuidV7 {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    // Unix millis shifted left by 12, plus the counter in the low 12 bits
+    private static final AtomicLong LAST = new AtomicLong();
+
+    private UuidV7() {
+    }
+
+    public static UUID next() {
+        long stamp = LAST.updateAndGet(last -> Math.max(last + 1, System.currentTimeMillis() << 12));
+        long mostSigBits = (stamp >>> 12) << 16 | 0x7000L | (stamp & 0xFFFL);
+        long leastSigBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    /**
+     * Unix millisecond timestamp of a version 7 UUID.
+     */
+    public static long timestampOf(UUID id) {
+        if (id.version() != 7) throw new IllegalArgumentException("Not a version 7 UUID: " + id);
+        return id.getMostSignificantBits() >>> 16;
+    }
+}
@@ -0,0 +1,22 @@
+package com.oleksandr.common.pagination;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Position in a user's booking history ordered by {@code (createdAt, id)}, newest first.
+ * Travels as an opaque base64url token.
+ */
+public record BookingCursor(LocalDateTime createdAt, UUID id) {
+
+    public String encode() {
+        return CursorTokens.encode(createdAt, id);
+    }
+
+    /**
+     * Decodes a token, or returns null for a blank one (first page).
+     */
+    public static BookingCursor decode(String token) {
+        return CursorTokens.decode(token, BookingCursor::new);
+    }
+}
@@ -0,0 +1,37 @@
+package com.oleksandr.common.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+/**
+ * Opaque base64url form of a {@code (timestamp, id)} keyset position shared by the cursor records.
+ */
+final class CursorTokens {
+
+    private static final String SEPARATOR = "|";
+
+    private CursorTokens() {
+    }
+
+    static String encode(LocalDateTime at, UUID id) {
+        String raw = (at != null ? at.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static <T> T decode(String token, BiFunction<LocalDateTime, UUID, T> factory) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            String at = raw.substring(0, separator);
+            return factory.apply(at.isEmpty() ? null : LocalDateTime.parse(at),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException ex) {
+            throw new InvalidCursorException("Invalid cursor: " + token);
+        }
+    }
+}
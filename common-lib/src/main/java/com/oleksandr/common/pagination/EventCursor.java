@@ -0,0 +1,22 @@
+package com.oleksandr.common.pagination;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Position in the event listing ordered by {@code (eventDate, id)}, events without a date last.
+ * Travels as an opaque base64url token.
+ */
+public record EventCursor(LocalDateTime eventDate, UUID id) {
+
+    public String encode() {
+        return CursorTokens.encode(eventDate, id);
+    }
+
+    /**
+     * Decodes a token, or returns null for a blank one (first page).
+     */
+    public static EventCursor decode(String token) {
+        return CursorTokens.decode(token, EventCursor::new);
+    }
+}
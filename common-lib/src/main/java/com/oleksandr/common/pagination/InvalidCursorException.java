@@ -0,0 +1,10 @@
+package com.oleksandr.common.pagination;
+
+/**
+ * Thrown when a client sends a cursor that was not produced by {@link EventCursor} or {@link BookingCursor}.
+ */
+public class InvalidCursorException extends IllegalArgumentException {
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
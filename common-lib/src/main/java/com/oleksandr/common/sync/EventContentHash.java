@@ -0,0 +1,63 @@
+package com.oleksandr.common.sync;
+
+import com.oleksandr.common.dto.EventDTO;
+import com.oleksandr.common.dto.TicketDTO;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * SHA-256 of everything a consumer stores for an event: its own fields and its ticket list.
+ * Tickets are hashed in id order, so the value does not depend on how they were loaded.
+ */
+public final class EventContentHash {
+
+    private static final Comparator<TicketDTO> BY_ID =
+            Comparator.comparing(TicketDTO::id, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private EventContentHash() {
+    }
+
+    public static String of(EventDTO event) {
+        MessageDigest digest = sha256();
+        put(digest, event.name());
+        put(digest, event.description());
+        put(digest, event.location());
+        put(digest, event.imageURL());
+        put(digest, event.eventDate() != null ? event.eventDate().toString() : null);
+
+        List<TicketDTO> tickets = event.tickets() != null
+                ? event.tickets().stream().filter(Objects::nonNull).sorted(BY_ID).toList()
+                : List.of();
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(tickets.size()).array());
+        for (TicketDTO ticket : tickets) {
+            put(digest, ticket.id() != null ? ticket.id().toString() : null);
+            put(digest, ticket.type());
+            put(digest, Double.toString(ticket.price()));
+            put(digest, ticket.place());
+            put(digest, ticket.status() != null ? ticket.status().name() : null);
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    // Length-prefixed so that adjacent fields cannot run into each other, -1 marks null
+    private static void put(MessageDigest digest, String value) {
+        byte[] bytes = value != null ? value.getBytes(StandardCharsets.UTF_8) : new byte[0];
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(value != null ? bytes.length : -1).array());
+        digest.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.oleksandr.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UuidV7Test {
+
+    @Test
+    void next_shouldSetVersionAndVariantBits() {
+        // When
+        UUID id = UuidV7.next();
+
+        // Then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void next_shouldIncreaseStrictlyInByteOrder() {
+        // Given
+        UUID previous = UuidV7.next();
+
+        for (int i = 0; i < 100_000; i++) {
+            // When
+            UUID next = UuidV7.next();
+
+            // Then: PostgreSQL compares uuid bytes unsigned, so compare the top 64 bits that way
+            assertTrue(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits()) > 0,
+                    previous + " >= " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void timestampOf_shouldReturnCreationMillis() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        long timestamp = UuidV7.timestampOf(UuidV7.next());
+
+        // Then
+        assertTrue(timestamp >= before);
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.timestampOf(UUID.randomUUID()));
+    }
+}